@@ -0,0 +1,85 @@
+package com.hanghae7.alcoholcommunity.domain.common.geo;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 목록 거리 계산 벤치마크
+ * 후보마다 위도/경도(도)로 toRadians, cos 를 다시 계산하던 방식과 저장된 라디안/코사인 배열로 한번에 계산하는 방식을 비교한다.
+ * ./gradlew jmh 로 실행
+ *
+ * @fileName      : GeoDistanceBenchmark
+ * @author        : mycom
+ * @since         : 2023-06-26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoDistanceBenchmark {
+
+	private static final double LATITUDE = 37.497967;
+	private static final double LONGITUDE = 127.027616;
+
+	@Param({"10", "1000"})
+	private int size;
+
+	private Double[] latitudes;
+	private Double[] longitudes;
+	private double[] latitudeRads;
+	private double[] longitudeRads;
+	private double[] cosLatitudes;
+	private double[] distances;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		latitudes = new Double[size];
+		longitudes = new Double[size];
+		latitudeRads = new double[size];
+		longitudeRads = new double[size];
+		cosLatitudes = new double[size];
+		distances = new double[size];
+		for (int i = 0; i < size; i++) {
+			latitudes[i] = LATITUDE + (random.nextDouble() - 0.5) * 0.5;
+			longitudes[i] = LONGITUDE + (random.nextDouble() - 0.5) * 0.5;
+			latitudeRads[i] = Math.toRadians(latitudes[i]);
+			longitudeRads[i] = Math.toRadians(longitudes[i]);
+			cosLatitudes[i] = Math.cos(latitudeRads[i]);
+		}
+	}
+
+	/**
+	 * 기존 방식, 엔티티의 Double 좌표로 후보마다 거리 계산
+	 */
+	@Benchmark
+	public void perCandidate(Blackhole blackhole) {
+		for (int i = 0; i < size; i++) {
+			blackhole.consume(GeoDistance.haversine(LATITUDE, LONGITUDE, latitudes[i], longitudes[i]));
+		}
+	}
+
+	/**
+	 * 저장된 라디안/코사인 배열로 한번에 거리 계산
+	 */
+	@Benchmark
+	public double[] batch() {
+		GeoDistance.haversine(Math.toRadians(LATITUDE), Math.toRadians(LONGITUDE), latitudeRads, longitudeRads, cosLatitudes, distances);
+		return distances;
+	}
+}
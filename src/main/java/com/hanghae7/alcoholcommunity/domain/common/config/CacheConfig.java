@@ -1,18 +1,41 @@
 package com.hanghae7.alcoholcommunity.domain.common.config;
 
+import java.time.Duration;
+import java.util.Collections;
+
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+	public static final String PARTY_NONE_LOGIN = "partyNoneLogin";
+	public static final String PARTY_DETAIL = "partyDetail";
+
 	@Bean
 	public CacheManager cacheManager() {
-		return new ConcurrentMapCacheManager("partyLogin", "partyNoneLogin", "partyList");
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		// 등록하지 않은 이름의 캐시가 크기 제한 없이 만들어지지 않도록 고정
+		cacheManager.setCacheNames(Collections.emptyList());
+		// 비로그인 모임 목록 페이지, 좌표/페이지 조합이 많아서 크기를 제한하고 짧게 유지
+		cacheManager.registerCustomCache(PARTY_NONE_LOGIN, Caffeine.newBuilder()
+			.maximumSize(1000)
+			.expireAfterWrite(Duration.ofSeconds(30))
+			.recordStats()
+			.build());
+		// 참여상태를 제외한 모임 상세
+		cacheManager.registerCustomCache(PARTY_DETAIL, Caffeine.newBuilder()
+			.maximumSize(5000)
+			.expireAfterWrite(Duration.ofMinutes(5))
+			.recordStats()
+			.build());
+		return cacheManager;
 	}
 
 }
@@ -0,0 +1,23 @@
+package com.hanghae7.alcoholcommunity.domain.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ReactorConfig {
+
+	// DB 커넥션 풀 크기(기본 10)보다 많은 스레드가 커넥션을 기다리지 않도록 맞춤
+	private static final int JPA_THREAD_CAP = 10;
+	private static final int JPA_QUEUED_TASK_CAP = 1000;
+
+	/**
+	 * 리액티브 엔드포인트에서 블로킹 JPA 호출만 실행하는 스케줄러
+	 */
+	@Bean(destroyMethod = "dispose")
+	public Scheduler jpaScheduler() {
+		return Schedulers.newBoundedElastic(JPA_THREAD_CAP, JPA_QUEUED_TASK_CAP, "party-jpa");
+	}
+}
@@ -11,6 +11,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.hanghae7.alcoholcommunity.domain.common.idempotency.IdempotencyStore;
 import com.hanghae7.alcoholcommunity.domain.common.jwt.JwtAuthFilter;
 import com.hanghae7.alcoholcommunity.domain.common.jwt.JwtUtil;
 
@@ -71,6 +72,7 @@ public class WebSecurityConfig {
 		// config.addExposedHeader(JwtUtil.AUTHORIZATION_HEADER);
 		config.addExposedHeader(JwtUtil.ACCESS_KEY);
 		config.addExposedHeader(JwtUtil.REFRESH_KEY);
+		config.addExposedHeader(IdempotencyStore.REPLAYED_HEADER);
 		config.addAllowedMethod("*");
 		config.addAllowedHeader("*");
 		config.setAllowCredentials(true);
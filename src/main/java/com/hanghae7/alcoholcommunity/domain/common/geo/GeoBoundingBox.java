@@ -0,0 +1,89 @@
+package com.hanghae7.alcoholcommunity.domain.common.geo;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 반경 원을 감싸는 위도/경도 사각형
+ * (latitude, longitude) 인덱스의 범위 조건으로 후보를 먼저 좁히고, 정확한 거리 조건은 남은 후보에만 적용한다.
+ * 서쪽 경도가 동쪽 경도보다 크면 날짜변경선을 넘는 사각형으로 본다.
+ *
+ * @fileName      : GeoBoundingBox
+ * @author        : mycom
+ * @since         : 2023-06-26
+ */
+@Getter
+public final class GeoBoundingBox {
+
+	private final double minLatitude;
+	private final double maxLatitude;
+	private final double minLongitude;
+	private final double maxLongitude;
+
+	private GeoBoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+		this.minLatitude = minLatitude;
+		this.maxLatitude = maxLatitude;
+		this.minLongitude = minLongitude;
+		this.maxLongitude = maxLongitude;
+	}
+
+	public static GeoBoundingBox of(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+		return new GeoBoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+	}
+
+	/**
+	 * 중심 좌표와 반경으로 사각형 계산
+	 * 극점을 포함하거나 날짜변경선을 넘으면 경도는 전체 범위로 둔다.
+	 * @param latitude 중심 위도
+	 * @param longitude 중심 경도
+	 * @param radius 반경(km)
+	 * @return 반경 원을 감싸는 사각형
+	 */
+	public static GeoBoundingBox around(double latitude, double longitude, double radius) {
+		double angularRadius = radius / GeoDistance.EARTH_RADIUS;
+		double latRad = Math.toRadians(latitude);
+		double minLatRad = latRad - angularRadius;
+		double maxLatRad = latRad + angularRadius;
+		if (minLatRad <= -Math.PI / 2 || maxLatRad >= Math.PI / 2) {
+			return new GeoBoundingBox(Math.max(-90, Math.toDegrees(minLatRad)), Math.min(90, Math.toDegrees(maxLatRad)), -180, 180);
+		}
+		double deltaLon = Math.toDegrees(Math.asin(Math.sin(angularRadius) / Math.cos(latRad)));
+		double minLongitude = longitude - deltaLon;
+		double maxLongitude = longitude + deltaLon;
+		if (minLongitude < -180 || maxLongitude > 180) {
+			minLongitude = -180;
+			maxLongitude = 180;
+		}
+		return new GeoBoundingBox(Math.toDegrees(minLatRad), Math.toDegrees(maxLatRad), minLongitude, maxLongitude);
+	}
+
+	public boolean contains(double latitude, double longitude) {
+		if (latitude < minLatitude || latitude > maxLatitude) {
+			return false;
+		}
+		if (crossesAntimeridian()) {
+			return longitude >= minLongitude || longitude <= maxLongitude;
+		}
+		return longitude >= minLongitude && longitude <= maxLongitude;
+	}
+
+	public boolean crossesAntimeridian() {
+		return minLongitude > maxLongitude;
+	}
+
+	/**
+	 * 날짜변경선을 넘는 사각형을 넘지 않는 두 사각형으로 분리
+	 * @return 넘지 않으면 자기 자신만, 넘으면 서쪽 경도~180, -180~동쪽 경도 두 사각형
+	 */
+	public List<GeoBoundingBox> splitAtAntimeridian() {
+		if (!crossesAntimeridian()) {
+			return Collections.singletonList(this);
+		}
+		return Arrays.asList(
+			new GeoBoundingBox(minLatitude, maxLatitude, minLongitude, 180),
+			new GeoBoundingBox(minLatitude, maxLatitude, -180, maxLongitude));
+	}
+}
@@ -0,0 +1,53 @@
+package com.hanghae7.alcoholcommunity.domain.common.geo;
+
+/**
+ * 구면 거리 계산
+ * 목록 조회처럼 한 기준점에서 여러 후보까지의 거리를 구할 때는 저장해둔 라디안/코사인 값을 배열로 받아
+ * 후보마다 toRadians, cos(위도)를 다시 계산하지 않는다.
+ *
+ * @fileName      : GeoDistance
+ * @author        : mycom
+ * @since         : 2023-06-26
+ */
+public final class GeoDistance {
+
+	/** 지구 반지름(km) */
+	public static final double EARTH_RADIUS = 6371;
+
+	private GeoDistance() {
+	}
+
+	/**
+	 * 두 좌표 사이의 거리, 하버사인 공식
+	 * @return 거리(km)
+	 */
+	public static double haversine(double latitude, double longitude, double latitude2, double longitude2) {
+		double dLat = Math.toRadians(latitude2 - latitude);
+		double dLon = Math.toRadians(longitude2 - longitude);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+			+ Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(latitude2))
+			* Math.sin(dLon / 2) * Math.sin(dLon / 2);
+		return EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+	}
+
+	/**
+	 * 기준점에서 후보들까지의 거리를 한번에 계산
+	 * 후보 좌표가 없으면(NaN) 거리도 NaN 이다.
+	 * @param latitudeRad 기준 위도(라디안)
+	 * @param longitudeRad 기준 경도(라디안)
+	 * @param latitudeRads 후보 위도(라디안)
+	 * @param longitudeRads 후보 경도(라디안)
+	 * @param cosLatitudes 후보 위도의 코사인
+	 * @param distances 거리(km)를 담을 배열, 후보 수 이상이어야 한다.
+	 */
+	public static void haversine(double latitudeRad, double longitudeRad,
+		double[] latitudeRads, double[] longitudeRads, double[] cosLatitudes, double[] distances) {
+		double cosLatitude = Math.cos(latitudeRad);
+		for (int i = 0; i < latitudeRads.length; i++) {
+			double sinHalfLat = Math.sin((latitudeRads[i] - latitudeRad) / 2);
+			double sinHalfLon = Math.sin((longitudeRads[i] - longitudeRad) / 2);
+			double a = sinHalfLat * sinHalfLat + cosLatitude * cosLatitudes[i] * sinHalfLon * sinHalfLon;
+			distances[i] = EARTH_RADIUS * 2 * Math.asin(Math.sqrt(Math.min(1, a)));
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.hanghae7.alcoholcommunity.domain.common.geo;
+
+/**
+ * 위도/경도를 GeoHash 문자열로 변환
+ * 같은 접두어를 가진 GeoHash는 같은 영역에 속하므로 지도 클러스터를 셀 단위로 묶는 데 쓴다.
+ *
+ * @fileName      : GeoHash
+ * @author        : mycom
+ * @since         : 2023-06-21
+ */
+public final class GeoHash {
+
+	/** 클러스터에 쓰는 가장 긴 GeoHash 길이, 약 150m x 150m 셀 */
+	public static final int MAX_PRECISION = 7;
+
+	private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+	private GeoHash() {
+	}
+
+	/**
+	 * 좌표를 GeoHash로 변환
+	 * @param latitude 위도
+	 * @param longitude 경도
+	 * @param precision GeoHash 길이
+	 * @return GeoHash 문자열
+	 */
+	public static String encode(double latitude, double longitude, int precision) {
+		double minLat = -90, maxLat = 90;
+		double minLon = -180, maxLon = 180;
+		StringBuilder hash = new StringBuilder(precision);
+		boolean evenBit = true;
+		int bit = 0;
+		int ch = 0;
+		while (hash.length() < precision) {
+			if (evenBit) {
+				double mid = (minLon + maxLon) / 2;
+				if (longitude >= mid) {
+					ch = (ch << 1) | 1;
+					minLon = mid;
+				} else {
+					ch = ch << 1;
+					maxLon = mid;
+				}
+			} else {
+				double mid = (minLat + maxLat) / 2;
+				if (latitude >= mid) {
+					ch = (ch << 1) | 1;
+					minLat = mid;
+				} else {
+					ch = ch << 1;
+					maxLat = mid;
+				}
+			}
+			evenBit = !evenBit;
+			if (++bit == 5) {
+				hash.append(BASE32.charAt(ch));
+				bit = 0;
+				ch = 0;
+			}
+		}
+		return hash.toString();
+	}
+}
@@ -0,0 +1,116 @@
+package com.hanghae7.alcoholcommunity.domain.common.idempotency;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanghae7.alcoholcommunity.domain.common.ResponseDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 헤더로 같은 요청의 재시도를 한 번만 처리하기위한 결과 저장소
+ * 처음 들어온 키는 처리중 표시를 SETNX 로 선점한 뒤 실행하고, 끝나면 응답을 Redis 에 TTL 과 함께 저장한다.
+ * 같은 키로 다시 들어오면 트랜잭션을 다시 실행하지 않고 저장된 응답을 돌려준다.
+ * Redis 장애 시에는 키 없이 요청한 것처럼 그대로 실행한다.
+ *
+ * @fileName      : IdempotencyStore
+ * @author        : mycom
+ * @since         : 2023-06-29
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class IdempotencyStore {
+
+	public static final String HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotency-Replayed";
+	private static final String KEY_PREFIX = "idempotency:";
+	private static final String IN_PROGRESS = "";
+	private static final int MAX_KEY_LENGTH = 64;
+	// 처리중 표시는 요청이 비정상 종료되어도 풀리도록 짧게, 결과는 클라이언트가 재시도할 만한 기간동안 보관
+	private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30);
+	private static final Duration RESULT_TTL = Duration.ofHours(24);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 키가 처음이면 요청을 실행하고 결과를 저장, 이미 처리된 키면 저장된 결과 반환
+	 * @param scope 요청 종류와 사용자, 대상 Id로 만든 구분 값, 다른 요청에 같은 키를 써도 섞이지 않는다.
+	 * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key, 없으면 매번 실행
+	 * @param action 실제 요청 처리
+	 * @return 처리 결과 또는 저장된 결과
+	 */
+	public ResponseEntity<ResponseDto> execute(String scope, String idempotencyKey, Supplier<ResponseEntity<ResponseDto>> action) {
+		if (idempotencyKey == null || idempotencyKey.isBlank()) {
+			return action.get();
+		}
+		if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+			return new ResponseEntity<>(new ResponseDto(400, "Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다."), HttpStatus.OK);
+		}
+		String key = KEY_PREFIX + scope + ":" + idempotencyKey;
+		Boolean acquired;
+		try {
+			acquired = redisTemplate.opsForValue().setIfAbsent(key, IN_PROGRESS, IN_PROGRESS_TTL);
+		} catch (RuntimeException e) {
+			log.warn("idempotency key acquire failed key={}", key, e);
+			return action.get();
+		}
+		if (!Boolean.TRUE.equals(acquired)) {
+			return replay(key, action);
+		}
+
+		ResponseEntity<ResponseDto> response;
+		try {
+			response = action.get();
+		} catch (RuntimeException e) {
+			// 실패한 요청은 다시 시도할 수 있도록 선점을 푼다.
+			release(key);
+			throw e;
+		}
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response.getBody()), RESULT_TTL);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("idempotency result save failed key={}", key, e);
+			release(key);
+		}
+		return response;
+	}
+
+	private ResponseEntity<ResponseDto> replay(String key, Supplier<ResponseEntity<ResponseDto>> action) {
+		String stored;
+		try {
+			stored = redisTemplate.opsForValue().get(key);
+		} catch (RuntimeException e) {
+			log.warn("idempotency result read failed key={}", key, e);
+			return action.get();
+		}
+		if (stored == null || IN_PROGRESS.equals(stored)) {
+			// 앞선 요청이 아직 처리중이면 결과를 알 수 없으므로 실행하지 않고 다시 시도하도록 안내
+			return new ResponseEntity<>(new ResponseDto(409, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."), HttpStatus.OK);
+		}
+		try {
+			ResponseDto responseDto = objectMapper.readValue(stored, ResponseDto.class);
+			return ResponseEntity.ok().header(REPLAYED_HEADER, "true").body(responseDto);
+		} catch (JsonProcessingException e) {
+			log.warn("idempotency result parse failed key={}", key, e);
+			return new ResponseEntity<>(new ResponseDto(409, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."), HttpStatus.OK);
+		}
+	}
+
+	private void release(String key) {
+		try {
+			redisTemplate.delete(key);
+		} catch (RuntimeException e) {
+			log.warn("idempotency key release failed key={}", key, e);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.hanghae7.alcoholcommunity.domain.notification.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 전달하지 않은 알림
+ * 모임 신청/승인 트랜잭션은 이 행만 저장하고, NotificationDispatcher 가 모아서 Notice 로 저장한 뒤 SSE 로 전송한다.
+ *
+ * @fileName      : NotificationOutbox
+ * @author        : mycom
+ * @since         : 2023-06-29
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+public class NotificationOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// Notice 와 같은 의미, 1 -> 호스트에게 가는 참가신청/신청취소, 2 -> 신청자에게 가는 승인/거절
+	@Column(nullable = false)
+	private Integer noticeCode;
+
+	@Column(nullable = false)
+	private Long partyId;
+
+	@Column(nullable = false)
+	private String partyTitle;
+
+	@Column(nullable = false)
+	private Boolean accepted;
+
+	// 알림을 받을 회원, 전송할 때 회원을 조회하지 않도록 고유 Id를 함께 저장
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Member receiver;
+
+	@Column(nullable = false)
+	private String receiverUniqueId;
+
+	private Long participantsId;
+
+	// noticeCode 1 알림에 함께 보내는 신청자 정보
+	private String participantName;
+
+	private String participantImage;
+
+	// 저장에 실패한 횟수, NotificationOutboxService.MAX_ATTEMPTS 에 이르면 더 꺼내지 않고 남겨둔다.
+	@Column(nullable = false)
+	private int attempts;
+
+	private LocalDateTime createdAt;
+
+	private NotificationOutbox(Integer noticeCode, Party party, Boolean accepted, Member receiver, Member participant) {
+		this.noticeCode = noticeCode;
+		this.partyId = party.getPartyId();
+		this.partyTitle = party.getTitle();
+		this.accepted = accepted;
+		this.receiver = receiver;
+		this.receiverUniqueId = receiver.getMemberUniqueId();
+		this.participantsId = participant == null ? 0L : participant.getMemberId();
+		this.participantName = participant == null ? null : participant.getMemberName();
+		this.participantImage = participant == null ? null : participant.getProfileImage();
+		this.createdAt = LocalDateTime.now();
+	}
+
+	/**
+	 * 호스트에게 가는 참가신청/신청취소 알림
+	 * @param participateIs 신청이면 true, 취소면 false
+	 */
+	public static NotificationOutbox participation(Party party, Member host, Member participant, boolean participateIs) {
+		return new NotificationOutbox(1, party, participateIs, host, participant);
+	}
+
+	/**
+	 * 신청자에게 가는 승인/거절 알림
+	 * @param accepted 승인이면 true, 거절이면 false
+	 */
+	public static NotificationOutbox result(Party party, Member receiver, boolean accepted) {
+		return new NotificationOutbox(2, party, accepted, receiver, null);
+	}
+
+	public void recordFailure() {
+		this.attempts++;
+	}
+
+	public Notice toNotice() {
+		return new Notice(noticeCode, partyId, partyTitle, accepted, false, receiver, participantsId);
+	}
+}
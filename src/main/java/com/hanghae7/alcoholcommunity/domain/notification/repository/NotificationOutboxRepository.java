@@ -0,0 +1,27 @@
+package com.hanghae7.alcoholcommunity.domain.notification.repository;
+
+import java.util.List;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.hanghae7.alcoholcommunity.domain.notification.entity.NotificationOutbox;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+	/**
+	 * 오래된 순으로 전달할 알림 조회
+	 * 여러 서버가 동시에 꺼내도 같은 알림을 두번 보내지 않도록, 다른 서버가 잠근 행은 건너뛴다(SKIP LOCKED).
+	 * @param maxAttempts 이 횟수만큼 실패한 알림은 제외
+	 * @param pageable 한번에 꺼낼 개수
+	 * @return 잠근 알림 목록
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+	List<NotificationOutbox> findByAttemptsLessThanOrderByIdAsc(int maxAttempts, Pageable pageable);
+}
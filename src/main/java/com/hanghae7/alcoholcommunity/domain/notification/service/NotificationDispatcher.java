@@ -0,0 +1,95 @@
+package com.hanghae7.alcoholcommunity.domain.notification.service;
+
+import static com.hanghae7.alcoholcommunity.domain.notification.controller.SseController.getEmitter;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanghae7.alcoholcommunity.domain.notification.sse.SseSend;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스에 쌓인 알림을 주기적으로 꺼내서 전송
+ * 꺼내는 트랜잭션이 커밋된 뒤에 SSE 로 보내므로, 느린 클라이언트가 DB 커넥션을 잡고 있지 않는다.
+ * 연결되어 있지 않거나 전송에 실패한 알림은 저장된 부재중 알림으로 확인한다.
+ *
+ * @fileName      : NotificationDispatcher
+ * @author        : mycom
+ * @since         : 2023-06-29
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class NotificationDispatcher {
+
+    static final int BATCH_SIZE = 100;
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final ObjectMapper objectMapper;
+    private final SseSend sseSend;
+
+    /**
+     * 아웃박스가 빌 때까지 BATCH_SIZE 개씩 꺼내서 전송
+     * 한 묶음 저장에 실패하면 한 건씩 다시 꺼내서 실패하는 알림만 실패 횟수를 올린다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void dispatch() {
+        List<NotificationOutboxService.Delivery> deliveries;
+        do {
+            try {
+                deliveries = notificationOutboxService.drain(BATCH_SIZE);
+            } catch (RuntimeException e) {
+                log.warn("notification outbox batch failed, retrying one by one", e);
+                dispatchOneByOne();
+                return;
+            }
+            deliveries.forEach(this::send);
+        } while (deliveries.size() == BATCH_SIZE);
+    }
+
+    private void dispatchOneByOne() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            List<NotificationOutboxService.Delivery> deliveries;
+            try {
+                deliveries = notificationOutboxService.drain(1);
+            } catch (RuntimeException e) {
+                log.warn("notification outbox delivery failed", e);
+                recordFailure();
+                // 다음 실행에서 다시 시도해서, 일시적인 장애로 실패 횟수가 한번에 차지 않게 한다.
+                return;
+            }
+            if (deliveries.isEmpty()) {
+                return;
+            }
+            deliveries.forEach(this::send);
+        }
+    }
+
+    private void recordFailure() {
+        try {
+            notificationOutboxService.recordFailure();
+        } catch (RuntimeException e) {
+            log.warn("notification outbox failure count update failed", e);
+        }
+    }
+
+    private void send(NotificationOutboxService.Delivery delivery) {
+        SseEmitter emitter = getEmitter(delivery.getReceiverUniqueId());
+        if (emitter == null) {
+            return;
+        }
+        try {
+            sseSend.sseSend(emitter, objectMapper.writeValueAsString(delivery.getPayload()));
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊긴 연결, 알림은 부재중 알림으로 남아있다.
+            log.debug("notice sse send failed receiver={}", delivery.getReceiverUniqueId(), e);
+        }
+    }
+}
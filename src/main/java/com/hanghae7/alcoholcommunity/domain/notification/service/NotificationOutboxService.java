@@ -0,0 +1,139 @@
+package com.hanghae7.alcoholcommunity.domain.notification.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.notification.dto.AbsenceNoticeDto;
+import com.hanghae7.alcoholcommunity.domain.notification.dto.NoticeParticipantResponseDto;
+import com.hanghae7.alcoholcommunity.domain.notification.dto.NoticeResponseDto;
+import com.hanghae7.alcoholcommunity.domain.notification.entity.Notice;
+import com.hanghae7.alcoholcommunity.domain.notification.entity.NotificationOutbox;
+import com.hanghae7.alcoholcommunity.domain.notification.repository.NoticeRepository;
+import com.hanghae7.alcoholcommunity.domain.notification.repository.NotificationOutboxRepository;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 아웃박스
+ * 모임 신청/승인 트랜잭션에서는 아웃박스 행만 저장해서, 클라이언트 네트워크 속도가 트랜잭션 시간에 영향을 주지 않도록 한다.
+ * 저장된 알림은 NotificationDispatcher 가 꺼내서 Notice 로 저장하고 SSE 로 전송한다.
+ * 저장에 MAX_ATTEMPTS 번 실패한 알림은 더 꺼내지 않고 아웃박스에 남겨서, 뒤의 알림이 막히지 않게 한다.
+ *
+ * @fileName      : NotificationOutboxService
+ * @author        : mycom
+ * @since         : 2023-06-29
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class NotificationOutboxService {
+
+    static final int MAX_ATTEMPTS = 5;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NoticeRepository noticeRepository;
+
+    /**
+     * 호스트에게 참가신청/신청취소 알림 등록
+     * @param party 모임
+     * @param host 호스트
+     * @param participant 신청자
+     * @param participateIs 신청이면 true, 취소면 false
+     */
+    public void notifyHost(Party party, Member host, Member participant, boolean participateIs) {
+        notificationOutboxRepository.save(NotificationOutbox.participation(party, host, participant, participateIs));
+    }
+
+    /**
+     * 신청자에게 승인/거절 알림 등록
+     * @param party 모임
+     * @param receiver 신청자
+     * @param accepted 승인이면 true, 거절이면 false
+     */
+    public void notifyResult(Party party, Member receiver, boolean accepted) {
+        notificationOutboxRepository.save(NotificationOutbox.result(party, receiver, accepted));
+    }
+
+    /**
+     * 여러 신청자에게 승인/거절 알림을 한번에 등록
+     */
+    public void notifyResults(Party party, List<Member> receivers, boolean accepted) {
+        List<NotificationOutbox> outboxes = new ArrayList<>(receivers.size());
+        for (Member receiver : receivers) {
+            outboxes.add(NotificationOutbox.result(party, receiver, accepted));
+        }
+        notificationOutboxRepository.saveAll(outboxes);
+    }
+
+    /**
+     * 오래된 순으로 알림을 꺼내서 Notice 로 저장하고 아웃박스에서 지운다.
+     * SSE 전송은 커밋 이후에 호출한 쪽에서 한다.
+     * @param size 한번에 꺼낼 개수
+     * @return 전송할 알림
+     */
+    @Transactional
+    public List<Delivery> drain(int size) {
+        List<NotificationOutbox> outboxes = notificationOutboxRepository.findByAttemptsLessThanOrderByIdAsc(MAX_ATTEMPTS, PageRequest.of(0, size));
+        if (outboxes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Notice> notices = new ArrayList<>(outboxes.size());
+        for (NotificationOutbox outbox : outboxes) {
+            notices.add(outbox.toNotice());
+        }
+        noticeRepository.saveAll(notices);
+        notificationOutboxRepository.deleteAllInBatch(outboxes);
+
+        List<Delivery> deliveries = new ArrayList<>(outboxes.size());
+        for (int i = 0; i < outboxes.size(); i++) {
+            NotificationOutbox outbox = outboxes.get(i);
+            deliveries.add(new Delivery(outbox.getReceiverUniqueId(), payload(outbox, notices.get(i))));
+        }
+        return deliveries;
+    }
+
+    /**
+     * 한 건씩 꺼내다 실패했을 때 맨 앞 알림의 실패 횟수 증가
+     * drain 트랜잭션은 롤백되었으므로 새 트랜잭션에서 기록한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure() {
+        List<NotificationOutbox> outboxes = notificationOutboxRepository.findByAttemptsLessThanOrderByIdAsc(MAX_ATTEMPTS, PageRequest.of(0, 1));
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        NotificationOutbox outbox = outboxes.get(0);
+        outbox.recordFailure();
+        if (outbox.getAttempts() >= MAX_ATTEMPTS) {
+            log.error("notification outbox {} failed {} times, leaving it for inspection", outbox.getId(), outbox.getAttempts());
+        }
+    }
+
+    private AbsenceNoticeDto payload(NotificationOutbox outbox, Notice notice) {
+        if (outbox.getNoticeCode() == 1) {
+            return new NoticeParticipantResponseDto(notice, outbox.getParticipantImage(), outbox.getParticipantName(),
+                    outbox.getParticipantsId(), outbox.getAccepted());
+        }
+        return new NoticeResponseDto(notice);
+    }
+
+    /**
+     * 저장이 끝난 알림과 받을 회원
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Delivery {
+        private final String receiverUniqueId;
+        private final AbsenceNoticeDto payload;
+    }
+}
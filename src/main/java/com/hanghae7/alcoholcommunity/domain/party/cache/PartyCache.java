@@ -0,0 +1,220 @@
+package com.hanghae7.alcoholcommunity.domain.party.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hanghae7.alcoholcommunity.domain.common.config.CacheConfig;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponseDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyResponseDto;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비로그인 모임 목록과 모임 상세 캐시
+ * 모임 상세는 서버 메모리 캐시 앞단, Redis 뒷단의 2단 캐시로 두고, 다른 서버는 Redis pub/sub 메시지를 받아 메모리 캐시를 비운다.
+ * 모임 생성/수정/삭제, 참여인원 변경이 커밋되면 해당 모임 상세와 목록 전체를 비운 뒤 PartyVersionStore 의 버전을 바꾼다.
+ * 캐시 키에 버전을 넣어 pub/sub 메시지가 늦게 도착한 서버도 새 버전 ETag 로 이전 응답을 내보내지 않는다.
+ * Redis 에서 버전을 읽을 수 없으면 메모리 캐시를 비울 때마다 바뀌는 서버 로컬 버전으로 메모리 캐시만 쓴다.
+ *
+ * @fileName      : PartyCache
+ * @author        : mycom
+ * @since         : 2023-06-25
+ */
+@Slf4j
+@Component
+public class PartyCache implements MessageListener {
+
+	public static final String INVALIDATION_CHANNEL = "party-invalidation";
+	private static final String DETAIL_KEY_PREFIX = "partyDetail:";
+	private static final Duration DETAIL_TTL = Duration.ofMinutes(10);
+
+	private final Cache partyNoneLogin;
+	private final Cache partyDetail;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final PartyVersionStore partyVersionStore;
+	private final AtomicLong localEpoch = new AtomicLong();
+
+	public PartyCache(CacheManager cacheManager, RedisTemplate<String, String> redisTemplate,
+		ObjectMapper objectMapper, RedisMessageListenerContainer redisMessageListenerContainer,
+		PartyVersionStore partyVersionStore) {
+		this.partyNoneLogin = cacheManager.getCache(CacheConfig.PARTY_NONE_LOGIN);
+		this.partyDetail = cacheManager.getCache(CacheConfig.PARTY_DETAIL);
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.partyVersionStore = partyVersionStore;
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	/**
+	 * 비로그인 모임 목록 조회, 캐시에 없으면 loader로 조회 후 저장
+	 * 목록 버전을 읽을 수 없으면 로컬 버전으로 메모리 캐시를 쓴다.
+	 * @param key 조회 조건으로 만든 키
+	 * @param loader 캐시에 없을 때 목록을 만드는 함수
+	 * @return 모임 목록
+	 */
+	public PartyListResponseDto getPartyList(String key, Supplier<PartyListResponseDto> loader) {
+		String version = partyVersionStore.listVersion();
+		if (version == null) {
+			version = localVersion();
+		}
+		return partyNoneLogin.get(version + ":" + key, loader::get);
+	}
+
+	/**
+	 * 메모리 캐시, Redis 순으로 모임 상세 조회, 두 캐시 모두 없으면 loader로 조회 후 저장
+	 * Redis 에서 찾으면 메모리 캐시에도 저장한다. 현재 모임 버전으로 저장된 값만 돌려준다.
+	 * 조회하는 동안 모임 버전이 바뀌었으면 조회한 값이 이전 내용일 수 있으므로 저장하지 않는다.
+	 * 모임 버전이 아직 없으면 모임이 있는 것을 확인한 뒤 버전만 만들고, 다음 조회부터 저장한다.
+	 * Redis 에서 버전을 읽거나 만들 수 없으면 로컬 버전으로 메모리 캐시에만 저장한다.
+	 * @param partyId 모임 Id
+	 * @param loader 캐시에 없을 때 모임 상세를 만드는 함수, 모임이 없으면 null
+	 * @return 참여상태를 제외한 모임 상세, 모임이 없으면 null
+	 */
+	public PartyResponseDto getPartyDetail(Long partyId, Supplier<PartyResponseDto> loader) {
+		String version = partyVersionStore.partyVersion(partyId);
+		if (version == null) {
+			String localVersion = localVersion();
+			Detail local = partyDetail.get(partyId, Detail.class);
+			if (local != null && local.version.equals(localVersion)) {
+				return local.partyResponseDto;
+			}
+			PartyResponseDto loaded = loader.get();
+			if (loaded != null && partyVersionStore.createPartyVersion(partyId) == null) {
+				partyDetail.put(partyId, new Detail(localVersion, loaded));
+			}
+			return loaded;
+		}
+		PartyResponseDto cached = readPartyDetail(partyId, version);
+		if (cached != null) {
+			return cached;
+		}
+		cached = loader.get();
+		if (cached != null && version.equals(partyVersionStore.partyVersion(partyId))) {
+			putPartyDetail(partyId, version, cached);
+		}
+		return cached;
+	}
+
+	private PartyResponseDto readPartyDetail(Long partyId, String version) {
+		Detail local = partyDetail.get(partyId, Detail.class);
+		if (local != null && local.version.equals(version)) {
+			return local.partyResponseDto;
+		}
+		try {
+			String json = redisTemplate.opsForValue().get(detailKey(partyId, version));
+			if (json == null) {
+				return null;
+			}
+			PartyResponseDto cached = objectMapper.readValue(json, PartyResponseDto.class);
+			partyDetail.put(partyId, new Detail(version, cached));
+			return cached;
+		} catch (JsonProcessingException | RuntimeException e) {
+			// Redis 장애 시 DB 조회로 넘어간다.
+			log.warn("party detail redis read failed partyId={}", partyId, e);
+			return null;
+		}
+	}
+
+	private void putPartyDetail(Long partyId, String version, PartyResponseDto partyResponseDto) {
+		partyDetail.put(partyId, new Detail(version, partyResponseDto));
+		try {
+			redisTemplate.opsForValue().set(detailKey(partyId, version),
+				objectMapper.writeValueAsString(partyResponseDto), DETAIL_TTL.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("party detail redis write failed partyId={}", partyId, e);
+		}
+	}
+
+	/**
+	 * 모임 변경이 커밋된 뒤 메모리 캐시를 비우고 버전을 바꾼 다음, Redis 의 이전 모임 상세를 지우고 모든 서버에 메모리 캐시를 비우라고 알린다.
+	 * 버전은 캐시를 비운 뒤에 바꿔야 새 버전 ETag 로 이전 응답이 나가지 않는다.
+	 * 자기 자신도 메시지를 받지만 메시지 유실에 대비해 바로 비운다.
+	 */
+	@TransactionalEventListener
+	public void onPartyChanged(PartyChangedEvent event) {
+		String previousVersion = partyVersionStore.partyVersion(event.getPartyId());
+		evictLocal(event.getPartyId());
+		partyVersionStore.bump(event.getPartyId());
+		try {
+			if (previousVersion != null) {
+				redisTemplate.delete(detailKey(event.getPartyId(), previousVersion));
+			}
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(event.getPartyId()));
+		} catch (RuntimeException e) {
+			log.warn("party cache invalidation publish failed partyId={}", event.getPartyId(), e);
+		}
+	}
+
+	/**
+	 * 다른 서버에서 보낸 무효화 메시지 수신
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			evictLocal(Long.valueOf(body.replace("\"", "")));
+		} catch (NumberFormatException e) {
+			log.warn("invalid party invalidation message {}", body);
+			localEpoch.incrementAndGet();
+			partyDetail.clear();
+			partyNoneLogin.clear();
+		}
+	}
+
+	private String detailKey(Long partyId, String version) {
+		return DETAIL_KEY_PREFIX + partyId + ":" + version;
+	}
+
+	private String localVersion() {
+		return "local" + localEpoch.get();
+	}
+
+	private void evictLocal(Long partyId) {
+		// 비우는 동안 조회하던 값은 이전 로컬 버전으로 저장되도록 캐시보다 먼저 바꾼다.
+		localEpoch.incrementAndGet();
+		partyDetail.evict(partyId);
+		partyNoneLogin.clear();
+	}
+
+	@Scheduled(fixedRate = 600000, initialDelay = 600000)
+	public void logStats() {
+		logStats(partyNoneLogin);
+		logStats(partyDetail);
+	}
+
+	private void logStats(Cache cache) {
+		CacheStats stats = ((CaffeineCache)cache).getNativeCache().stats();
+		log.info("cache {} hit={} miss={} hitRate={} eviction={}", cache.getName(),
+			stats.hitCount(), stats.missCount(), String.format("%.2f", stats.hitRate()), stats.evictionCount());
+	}
+
+	private static class Detail {
+		private final String version;
+		private final PartyResponseDto partyResponseDto;
+
+		private Detail(String version, PartyResponseDto partyResponseDto) {
+			this.version = version;
+			this.partyResponseDto = partyResponseDto;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.hanghae7.alcoholcommunity.domain.party.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임별 버전과 모임 목록 전체 버전
+ * 모임 변경이 커밋되면 PartyCache 가 메모리 캐시를 비운 뒤 버전을 새 값으로 바꾸고, 목록/상세 응답의 ETag 와 캐시 키를 이 버전으로 만든다.
+ * 버전이 같으면 응답도 같으므로 If-None-Match 가 일치하면 목록을 만들지 않고 304 를 응답한다.
+ * 버전은 증가값이 아닌 매번 새로 만든 값이라 Redis 에서 키가 사라져 다시 만들어도 이전 ETag 와 겹치지 않는다.
+ * 버전 변경에 실패한 키는 다음 변경에 성공할 때까지 버전을 돌려주지 않아 이전 응답이 304 로 남지 않게 한다.
+ * 버전 키는 일정 시간 뒤 만료되고, 모임 버전은 조회만으로는 만들지 않아 없는 모임 Id 로 키가 쌓이지 않는다.
+ *
+ * @fileName      : PartyVersionStore
+ * @author        : mycom
+ * @since         : 2023-06-26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PartyVersionStore {
+
+	private static final String LIST_VERSION_KEY = "partyListVersion";
+	private static final String PARTY_VERSION_KEY_PREFIX = "partyVersion:";
+	private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Set<String> failedKeys = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * 해당 모임과 목록 버전을 새 값으로 변경
+	 * 캐시를 비운 뒤에 호출해야 새 버전으로 이전 응답이 나가지 않는다.
+	 * @param partyId 변경된 모임 Id
+	 */
+	public void bump(Long partyId) {
+		bump(PARTY_VERSION_KEY_PREFIX + partyId);
+		bump(LIST_VERSION_KEY);
+	}
+
+	/**
+	 * 모임 목록 버전
+	 * @return 목록 버전, 읽을 수 없거나 마지막 변경에 실패했으면 null
+	 */
+	public String listVersion() {
+		return readVersion(LIST_VERSION_KEY, true);
+	}
+
+	/**
+	 * 모임 버전, 버전 키가 없으면 만들지 않는다.
+	 * @param partyId 모임 Id
+	 * @return 모임 버전, 키가 없거나 읽을 수 없거나 마지막 변경에 실패했으면 null
+	 */
+	public String partyVersion(Long partyId) {
+		return readVersion(PARTY_VERSION_KEY_PREFIX + partyId, false);
+	}
+
+	/**
+	 * 모임 버전 키가 없으면 새로 만든다. 모임이 있는 것을 확인한 뒤에만 호출한다.
+	 * @param partyId 모임 Id
+	 * @return 모임 버전, 읽을 수 없거나 마지막 변경에 실패했으면 null
+	 */
+	public String createPartyVersion(Long partyId) {
+		return readVersion(PARTY_VERSION_KEY_PREFIX + partyId, true);
+	}
+
+	/**
+	 * 모임 목록 ETag
+	 * @param query 조회 조건
+	 * @param viewerKey 조회자 구분 값, 비로그인이면 null
+	 * @return 목록 버전과 조회 조건으로 만든 ETag, 버전을 읽을 수 없으면 null
+	 */
+	public String listETag(String query, String viewerKey) {
+		String version = listVersion();
+		return version == null ? null : eTag("l" + version, query + ":" + viewerKey);
+	}
+
+	/**
+	 * 모임 상세 ETag
+	 * @param partyId 모임 Id
+	 * @param viewerKey 조회자 구분 값
+	 * @return 모임 버전과 조회자로 만든 ETag, 버전을 읽을 수 없으면 null
+	 */
+	public String partyETag(Long partyId, String viewerKey) {
+		String version = partyVersion(partyId);
+		return version == null ? null : eTag("p" + partyId + "-" + version, viewerKey);
+	}
+
+	private boolean bump(String key) {
+		try {
+			redisTemplate.opsForValue().set(key, newVersion(), VERSION_TTL.toMillis(), TimeUnit.MILLISECONDS);
+			failedKeys.remove(key);
+			return true;
+		} catch (RuntimeException e) {
+			log.warn("party version bump failed key={}", key, e);
+			failedKeys.add(key);
+			return false;
+		}
+	}
+
+	private String readVersion(String key, boolean createIfAbsent) {
+		// 변경에 실패한 버전은 이전 응답과 같은 값이므로 다시 바꾸기 전에는 쓰지 않는다.
+		if (failedKeys.contains(key) && !bump(key)) {
+			return null;
+		}
+		try {
+			String version = redisTemplate.opsForValue().get(key);
+			if (version == null && createIfAbsent) {
+				redisTemplate.opsForValue().setIfAbsent(key, newVersion(), VERSION_TTL.toMillis(), TimeUnit.MILLISECONDS);
+				version = redisTemplate.opsForValue().get(key);
+			}
+			return version;
+		} catch (RuntimeException e) {
+			log.warn("party version read failed key={}", key, e);
+			return null;
+		}
+	}
+
+	private String newVersion() {
+		return Long.toString(System.currentTimeMillis(), 36) + Integer.toString(ThreadLocalRandom.current().nextInt(1 << 20), 36);
+	}
+
+	private String eTag(String version, String variant) {
+		return "\"" + version + "-" + DigestUtils.md5DigestAsHex(variant.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 
 import javax.servlet.http.HttpServletRequest;
 
+import com.hanghae7.alcoholcommunity.domain.party.cache.PartyVersionStore;
 import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyRequestDto;
 import com.hanghae7.alcoholcommunity.domain.party.service.PartyService;
 import org.springframework.http.ResponseEntity;
@@ -16,7 +17,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.hanghae7.alcoholcommunity.domain.common.ResponseDto;
 import com.hanghae7.alcoholcommunity.domain.common.security.UserDetailsImplement;
@@ -37,6 +40,7 @@ import lombok.RequiredArgsConstructor;
 public class PartyController {
 
 	private final PartyService partyService;
+	private final PartyVersionStore partyVersionStore;
 
 	/**
 	 * 모임 게시글 등록
@@ -57,39 +61,126 @@ public class PartyController {
 	 *  모임 전체조회(전체/모집중/모집마감)
 	 * @param recruitmentStatus  0: 전체 리스트 / 1: 승인완료된 모임리스트 / 2: 승인 대기중인 모임 리스트
 	 * @param page 요청한 페이지 번호
+	 * @param sort latest: 최신순 / distance: 가까운 순
+	 * @param cursor 이전 응답의 nextCursor, 있으면 page 대신 커서 다음부터 조회(최신순)
 	 * @param request 토큰값을 확인하기 위한 정보
+	 * @param webRequest If-None-Match 확인용, 목록 버전이 그대로면 304 응답
 	 * @return 각 리스트 출력
 	 */
 	@GetMapping("/parties")
 	public ResponseEntity<ResponseDto> findAll(@RequestParam(defaultValue = "500")double radius, @RequestParam(defaultValue = "127.027616")double longitude, @RequestParam(defaultValue = "37.497967") double latitude, @RequestParam int recruitmentStatus,
-		@RequestParam int page, HttpServletRequest request) {
-
+		@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "latest") String sort, @RequestParam(required = false) String cursor, HttpServletRequest request,
+		WebRequest webRequest) {
+
+		String eTag = partyVersionStore.listETag(request.getQueryString(), request.getHeader("Access_key"));
+		if (eTag != null && webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+		if (sort.equals("distance")) {
+			return partyService.findAllNearest(radius, longitude, latitude, page, recruitmentStatus, request);
+		}
+		if (cursor != null) {
+			return partyService.findAllByCursor(radius, longitude, latitude, cursor, recruitmentStatus, request);
+		}
 		return partyService.findAll(radius, longitude, latitude, page,  recruitmentStatus, request);
 	}
 
 
+	/**
+	 *  모임 전체조회 스트리밍, 한번에 많은 모임을 받는 지도/내보내기용
+	 * @param recruitmentStatus  0: 전체 리스트 / 1: 승인완료된 모임리스트 / 2: 승인 대기중인 모임 리스트
+	 * @param size 최대 개수
+	 * @param request 토큰값을 확인하기 위한 정보
+	 * @return 최신순 모임 리스트
+	 */
+	@GetMapping("/parties/stream")
+	public ResponseEntity<StreamingResponseBody> streamAll(@RequestParam(defaultValue = "500")double radius, @RequestParam(defaultValue = "127.027616")double longitude, @RequestParam(defaultValue = "37.497967") double latitude, @RequestParam int recruitmentStatus,
+		@RequestParam(defaultValue = "1000") int size, HttpServletRequest request) {
+		return partyService.streamAll(radius, longitude, latitude, size, recruitmentStatus, request);
+	}
+
+
 	/**
 	 *  모임 전체조회(전체/모집중/모집마감)
 	 * @param recruitmentStatus  0: 전체 리스트 / 1: 승인완료된 모임리스트 / 2: 승인 대기중인 모임 리스트
 	 * @param page 요청한 페이지 번호
+	 * @param cursor 이전 응답의 nextCursor, 있으면 page 대신 커서 다음부터 조회
 	 * @param request 토큰값을 확인하기 위한 정보
 	 * @return 각 리스트 출력
 	 */
 	@GetMapping("/parties/search")
 	public ResponseEntity<ResponseDto> findAllSearch(@RequestParam(defaultValue = "500")double radius, @RequestParam(defaultValue = "127.027616")double longitude, @RequestParam(defaultValue = "37.497967") double latitude, @RequestParam int recruitmentStatus,
-		@RequestParam int page, HttpServletRequest request, @RequestParam String keyword) {
+		@RequestParam(defaultValue = "0") int page, @RequestParam(required = false) String cursor, HttpServletRequest request, @RequestParam String keyword) {
 
+		if (cursor != null) {
+			return partyService.findAllSearchByCursor(radius, longitude, latitude, cursor, recruitmentStatus, request, keyword);
+		}
 		return partyService.findAllSearch(radius, longitude, latitude, page,  recruitmentStatus, request, keyword);
 	}
 
+	/**
+	 * 검색어 자동완성
+	 * @param keyword 입력한 글자
+	 * @param size 최대 개수
+	 * @return 역 이름/장소 이름/지역 이름과 해당 모임 수
+	 */
+	@GetMapping("/parties/search/autocomplete")
+	public ResponseEntity<ResponseDto> autocomplete(@RequestParam String keyword, @RequestParam(defaultValue = "10") int size) {
+		return partyService.autocomplete(keyword, size);
+	}
+
+	/**
+	 * 추천 모임 조회
+	 * @param size 조회할 개수
+	 * @param request 토큰값을 확인하기 위한 정보
+	 * @return 추천 점수 순 모임 리스트
+	 */
+	@GetMapping("/parties/recommended")
+	public ResponseEntity<ResponseDto> findRecommended(@RequestParam(defaultValue = "500")double radius, @RequestParam(defaultValue = "127.027616")double longitude, @RequestParam(defaultValue = "37.497967") double latitude,
+		@RequestParam(defaultValue = "10") int size, HttpServletRequest request) {
+		return partyService.findRecommended(radius, longitude, latitude, size, request);
+	}
+
+	/**
+	 * 필터별 모임 수 조회
+	 * @return 지역/카테고리/컨셉/모집 상태별 모임 수
+	 */
+	@GetMapping("/parties/facets")
+	public ResponseEntity<ResponseDto> findFacets() {
+		return partyService.findFacets();
+	}
+
+	/**
+	 * 지도 클러스터 조회
+	 * @param minLatitude 지도 남쪽 위도
+	 * @param maxLatitude 지도 북쪽 위도
+	 * @param minLongitude 지도 서쪽 경도
+	 * @param maxLongitude 지도 동쪽 경도
+	 * @param zoom 지도 확대 수준(0~21)
+	 * @param recruitmentStatus 0: 전체 / 1: 모집중 / 2: 모집마감
+	 * @return GeoHash 셀 단위 클러스터 리스트
+	 */
+	@GetMapping("/parties/clusters")
+	public ResponseEntity<ResponseDto> findClusters(@RequestParam double minLatitude, @RequestParam double maxLatitude,
+		@RequestParam double minLongitude, @RequestParam double maxLongitude, @RequestParam int zoom,
+		@RequestParam(defaultValue = "0") int recruitmentStatus) {
+		return partyService.findClusters(minLatitude, maxLatitude, minLongitude, maxLongitude, zoom, recruitmentStatus);
+	}
+
 	/**
 	 * 모임 상세조회
 	 * @param partyId FE에서 매개변수로 전달한 Party의 Id
 	 * @param userDetails 사용자 정보
+	 * @param webRequest If-None-Match 확인용, 모임 버전이 그대로면 304 응답
 	 * @return 모임 게시글에 속한 모든 내용
 	 */
 	@GetMapping("/party/{partyId}")
-	public ResponseEntity<ResponseDto> getParty(@PathVariable Long partyId, @AuthenticationPrincipal UserDetailsImplement userDetails) {
+	public ResponseEntity<ResponseDto> getParty(@PathVariable Long partyId, @AuthenticationPrincipal UserDetailsImplement userDetails,
+		WebRequest webRequest) {
+		String eTag = partyVersionStore.partyETag(partyId, userDetails.getMember().getMemberUniqueId());
+		if (eTag != null && webRequest.checkNotModified(eTag)) {
+			return null;
+		}
 		return partyService.getParty(partyId, userDetails.getMember());
 	}
 
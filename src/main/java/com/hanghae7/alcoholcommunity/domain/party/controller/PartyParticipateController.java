@@ -8,10 +8,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hanghae7.alcoholcommunity.domain.common.ResponseDto;
+import com.hanghae7.alcoholcommunity.domain.common.idempotency.IdempotencyStore;
 import com.hanghae7.alcoholcommunity.domain.common.security.UserDetailsImplement;
+import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyBulkRequestDto;
 import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyJoinRequestDto;
 import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyJoinRequestDto;
 import com.hanghae7.alcoholcommunity.domain.party.service.PartyParticipateService;
@@ -23,48 +27,85 @@ import lombok.RequiredArgsConstructor;
 public class PartyParticipateController {
 
 	private final PartyParticipateService partyParticipateService;
+	private final IdempotencyStore idempotencyStore;
 
 	/**
 	 * 모임신청 메소드, 신청 save시 기본 awating값은 True 설정
 	 * @param partyId FE에서 매개변수로 전달한 Party의 Id
 	 * @param userDetails 사용자 정보
+	 * @param idempotencyKey 재시도 시 같은 값을 보내면 신청/취소가 반복되지 않는다.
 	 * @return PartyID와 신청한 Member값 반환
 	 */
 	@PostMapping("/party/join/{partyId}")
-	public ResponseEntity<ResponseDto> participateParty(@PathVariable Long partyId, @RequestBody(required=false) PartyJoinRequestDto partyJoinRequestDto, @AuthenticationPrincipal UserDetailsImplement userDetails) {
-		return partyParticipateService.participateParty(partyId, partyJoinRequestDto, userDetails.getMember());
+	public ResponseEntity<ResponseDto> participateParty(@PathVariable Long partyId, @RequestBody(required=false) PartyJoinRequestDto partyJoinRequestDto, @AuthenticationPrincipal UserDetailsImplement userDetails,
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+		return idempotencyStore.execute(scope("join", partyId, userDetails), idempotencyKey,
+			() -> partyParticipateService.participateParty(partyId, partyJoinRequestDto, userDetails.getMember()));
 	}
 
 	/**
 	 * 주최자가 승인신청 여부판단, 꽉찬 모임이라면 승인안됨
 	 * @param participateId 파티신청 정보의 ID
 	 * @param userDetails 사용자 정보
+	 * @param idempotencyKey 재시도 시 같은 값을 보내면 저장된 결과를 돌려준다.
 	 * @return 승인여부 리턴
 	 */
 	@PostMapping("/party/accept/{participateId}")
-	public ResponseEntity<ResponseDto> acceptParty(@PathVariable Long participateId, @AuthenticationPrincipal UserDetailsImplement userDetails){
-		return partyParticipateService.acceptParty(participateId);
+	public ResponseEntity<ResponseDto> acceptParty(@PathVariable Long participateId, @AuthenticationPrincipal UserDetailsImplement userDetails,
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey){
+		return idempotencyStore.execute(scope("accept", participateId, userDetails), idempotencyKey,
+			() -> partyParticipateService.acceptParty(participateId));
 	}
 
 	/**
 	 * 주최자가 대기 인원 중에 승인거부하고 싶은 대기 인원 승인 거부
 	 * @param participateId 파티신청 정보의 ID
 	 * @param userDetails 사용자 정보
+	 * @param idempotencyKey 재시도 시 같은 값을 보내면 저장된 결과를 돌려준다.
 	 * @return 승인거절 여부 리턴
 	 */
 	@DeleteMapping("/party/accept/{participateId}")
-	public ResponseEntity<ResponseDto> removeWaiting(@PathVariable Long participateId, @AuthenticationPrincipal UserDetailsImplement userDetails){
-		return partyParticipateService.removeWaiting(participateId);
+	public ResponseEntity<ResponseDto> removeWaiting(@PathVariable Long participateId, @AuthenticationPrincipal UserDetailsImplement userDetails,
+		@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey){
+		return idempotencyStore.execute(scope("reject", participateId, userDetails), idempotencyKey,
+			() -> partyParticipateService.removeWaiting(participateId));
+	}
+
+	/**
+	 * 주최자가 여러 신청을 한번에 승인, 남은 자리만큼 승인하고 나머지는 대기열에 등록
+	 * @param partyId 모임 Id
+	 * @param partyBulkRequestDto 승인할 파티신청 정보의 ID 목록
+	 * @param userDetails 사용자 정보
+	 * @return 승인/대기열 등록된 파티신청 ID 목록
+	 */
+	@PostMapping("/party/{partyId}/accept")
+	public ResponseEntity<ResponseDto> acceptPartyBulk(@PathVariable Long partyId, @RequestBody PartyBulkRequestDto partyBulkRequestDto, @AuthenticationPrincipal UserDetailsImplement userDetails){
+		return partyParticipateService.acceptPartyBulk(partyId, partyBulkRequestDto.getParticipateIds(), userDetails.getMember());
+	}
+
+	/**
+	 * 주최자가 여러 신청을 한번에 승인 거절
+	 * @param partyId 모임 Id
+	 * @param partyBulkRequestDto 거절할 파티신청 정보의 ID 목록
+	 * @param userDetails 사용자 정보
+	 * @return 거절된 파티신청 ID 목록
+	 */
+	@PostMapping("/party/{partyId}/reject")
+	public ResponseEntity<ResponseDto> rejectPartyBulk(@PathVariable Long partyId, @RequestBody PartyBulkRequestDto partyBulkRequestDto, @AuthenticationPrincipal UserDetailsImplement userDetails){
+		return partyParticipateService.rejectPartyBulk(partyId, partyBulkRequestDto.getParticipateIds(), userDetails.getMember());
 	}
 
 	/**
 	 * 모임 리스트 (전체/승인완료된리스트/승인대기중인 리스트)
 	 * @param userDetails 사용자 정보
+	 * @param page 페이지 번호
+	 * @param size 페이지 크기
 	 * @return approveStatus값에 따른 모임리스트 출력
 	 */
 	@GetMapping("party/my-party-list")
-	public ResponseEntity<ResponseDto> getParticipateList(@AuthenticationPrincipal UserDetailsImplement userDetails){
-		return partyParticipateService.getParticipatePartyList(userDetails.getMember());
+	public ResponseEntity<ResponseDto> getParticipateList(@AuthenticationPrincipal UserDetailsImplement userDetails,
+		@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size){
+		return partyParticipateService.getParticipatePartyList(userDetails.getMember(), page, size);
 	}
 
 
@@ -83,13 +124,20 @@ public class PartyParticipateController {
 	/**
 	 * 회원이 호스트인 파티리스트 출력
 	 * @param userDetails 로그인된 유저정보
+	 * @param page 페이지 번호
+	 * @param size 페이지 크기
 	 * @return 호스트인 파티리스트 출력
 	 */
 	@GetMapping("party/host-party-list")
-	public ResponseEntity<ResponseDto> getHostPartyList(@AuthenticationPrincipal UserDetailsImplement userDetails){
-		return partyParticipateService.getHostPartyList(userDetails.getMember());
+	public ResponseEntity<ResponseDto> getHostPartyList(@AuthenticationPrincipal UserDetailsImplement userDetails,
+		@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size){
+		return partyParticipateService.getHostPartyList(userDetails.getMember(), page, size);
 	}
 
-
-
+	/**
+	 * 같은 키라도 요청 종류, 사용자, 대상이 다르면 다른 요청으로 본다.
+	 */
+	private String scope(String operation, Long targetId, UserDetailsImplement userDetails) {
+		return operation + ":" + userDetails.getMember().getMemberUniqueId() + ":" + targetId;
+	}
 }
@@ -0,0 +1,51 @@
+package com.hanghae7.alcoholcommunity.domain.party.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponse;
+import com.hanghae7.alcoholcommunity.domain.party.service.PartyReactiveService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * 모임 목록/검색 리액티브 엔드포인트
+ * PartyController 의 /parties, /parties/search 와 같은 조건으로 조회하며 스레드 사용량/지연시간 비교용이다.
+ *
+ * @fileName      : PartyReactiveController
+ * @author        : mycom
+ * @since         : 2023-06-27
+ */
+@RequiredArgsConstructor
+@RestController
+public class PartyReactiveController {
+
+	private final PartyReactiveService partyReactiveService;
+
+	/**
+	 *  모임 전체조회(전체/모집중/모집마감), 최신순
+	 * @param recruitmentStatus  0: 전체 리스트 / 1: 모집중 / 2: 모집마감
+	 * @param page 요청한 페이지 번호
+	 * @param accessKey 토큰, 비로그인이면 없음
+	 * @return 모임 리스트
+	 */
+	@GetMapping("/reactive/parties")
+	public Flux<PartyListResponse> findAll(@RequestParam(defaultValue = "500")double radius, @RequestParam(defaultValue = "127.027616")double longitude, @RequestParam(defaultValue = "37.497967") double latitude, @RequestParam int recruitmentStatus,
+		@RequestParam(defaultValue = "0") int page, @RequestHeader(value = "Access_key", required = false) String accessKey) {
+		return partyReactiveService.findAll(accessKey, radius, longitude, latitude, page, recruitmentStatus);
+	}
+
+	/**
+	 *  모임 검색 조회(전체/모집중/모집마감), 관련도 순
+	 * @param keyword 검색어
+	 * @return 모임 리스트
+	 */
+	@GetMapping("/reactive/parties/search")
+	public Flux<PartyListResponse> findAllSearch(@RequestParam(defaultValue = "500")double radius, @RequestParam(defaultValue = "127.027616")double longitude, @RequestParam(defaultValue = "37.497967") double latitude, @RequestParam int recruitmentStatus,
+		@RequestParam(defaultValue = "0") int page, @RequestHeader(value = "Access_key", required = false) String accessKey, @RequestParam String keyword) {
+		return partyReactiveService.findAllSearch(accessKey, radius, longitude, latitude, page, recruitmentStatus, keyword);
+	}
+}
@@ -0,0 +1,30 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.Info;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+
+/**
+ * 내 모임 목록에서 모임 카드와 조회한 회원의 참여상태를 한 쿼리로 조회하기 위한 프로젝션
+ * 생성자 순서는 PartyCardRepository.CARD_COLUMNS 뒤에 참여상태 컬럼을 붙인 순서와 같아야 한다.
+ *
+ * @fileName      : ParticipateCardDto
+ * @author        : mycom
+ * @since         : 2023-06-29
+ */
+@Getter
+public class ParticipateCardDto {
+	private final PartyCardDto card;
+	private final ParticipateStateDto state;
+
+	public ParticipateCardDto(Long partyId, String title, LocalDateTime partyDate, boolean recruitmentStatus, int totalCount,
+		int currentCount, Double latitude, Double longitude, double distance, String stationName, String imageUrl,
+		String placeName, String placeAddress, String placeUrl, String regionName, String categoryName,
+		LocalDateTime createdAt, String memberAvatars, Double latitudeRad, Double longitudeRad, Double cosLatitude,
+		boolean awaiting, boolean rejected, Long waitlistPosition) {
+		this.card = new PartyCardDto(partyId, title, partyDate, recruitmentStatus, totalCount, currentCount, latitude,
+			longitude, distance, stationName, imageUrl, placeName, placeAddress, placeUrl, regionName, categoryName,
+			createdAt, memberAvatars, latitudeRad, longitudeRad, cosLatitude);
+		this.state = new ParticipateStateDto(partyId, awaiting, rejected, waitlistPosition);
+	}
+}
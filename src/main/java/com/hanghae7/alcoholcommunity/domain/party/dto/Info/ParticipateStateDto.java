@@ -0,0 +1,35 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.Info;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 조회한 회원의 모임 참여상태만 조회하기 위한 프로젝션
+ *
+ * @fileName      : ParticipateStateDto
+ * @author        : mycom
+ * @since         : 2023-06-25
+ */
+@Getter
+@AllArgsConstructor
+public class ParticipateStateDto {
+	private Long partyId;
+	private boolean awaiting;
+	private boolean rejected;
+	private Long waitlistPosition;
+
+	/**
+	 * @return 1: 참여 / 2: 승인 대기 / 3: 거절 / 4: 대기열
+	 */
+	public int toState() {
+		if (rejected) {
+			return 3;
+		} else if (waitlistPosition != null) {
+			return 4;
+		} else if (awaiting) {
+			return 2;
+		} else {
+			return 1;
+		}
+	}
+}
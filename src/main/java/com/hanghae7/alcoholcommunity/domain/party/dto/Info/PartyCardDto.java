@@ -0,0 +1,43 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.Info;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 목록 카드에 필요한 컬럼만 조회하기 위한 프로젝션
+ * 엔티티를 올리지 않아 참여정보/회원/알림 같은 연관관계가 함께 조회되지 않는다.
+ * 생성자 순서는 PartyCardRepository.CARD_SELECT 와 같아야 한다.
+ *
+ * @fileName      : PartyCardDto
+ * @author        : mycom
+ * @since         : 2023-06-25
+ */
+@Getter
+@AllArgsConstructor
+public class PartyCardDto {
+	private Long partyId;
+	private String title;
+	private LocalDateTime partyDate;
+	private boolean recruitmentStatus;
+	private int totalCount;
+	private int currentCount;
+	private Double latitude;
+	private Double longitude;
+	private double distance;
+	private String stationName;
+	private String imageUrl;
+	private String placeName;
+	private String placeAddress;
+	private String placeUrl;
+	private String regionName;
+	private String categoryName;
+	private LocalDateTime createdAt;
+	// 호스트부터 승인된 참여자 프로필 JSON 배열
+	private String memberAvatars;
+	// 거리 계산용 값
+	private Double latitudeRad;
+	private Double longitudeRad;
+	private Double cosLatitude;
+}
@@ -0,0 +1,27 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.Info;
+
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 필터별 모임 수 계산에 쓰는 값만 조회하기 위한 프로젝션
+ *
+ * @fileName      : PartyFacetDto
+ * @author        : mycom
+ * @since         : 2023-06-28
+ */
+@Getter
+@AllArgsConstructor
+public class PartyFacetDto {
+	private Long partyId;
+	private String regionName;
+	private String categoryName;
+	private String concept;
+	private boolean recruitmentStatus;
+
+	public PartyFacetDto(Party party) {
+		this(party.getPartyId(), party.getRegionName(), party.getCategoryName(), party.getConcept(), party.isRecruitmentStatus());
+	}
+}
@@ -0,0 +1,19 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.Info;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추천 점수 계산을 위해 회원이 참여했던 모임의 카테고리/컨셉만 조회하기 위한 프로젝션
+ *
+ * @fileName      : PartyHistoryDto
+ * @author        : mycom
+ * @since         : 2023-06-28
+ */
+@Getter
+@AllArgsConstructor
+public class PartyHistoryDto {
+	private Long partyId;
+	private String categoryName;
+	private String concept;
+}
@@ -0,0 +1,28 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.Info;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 목록 카드의 참여자 프로필만 조회하기 위한 프로젝션
+ *
+ * @fileName      : PartyMemberInfoDto
+ * @author        : mycom
+ * @since         : 2023-06-25
+ */
+@Getter
+@AllArgsConstructor
+public class PartyMemberInfoDto {
+	private Long partyId;
+	private Long memberId;
+	private String memberName;
+	private String profileImage;
+
+	public MemberInfoDto toMemberInfo() {
+		MemberInfoDto memberInfo = new MemberInfoDto();
+		memberInfo.setMemberId(memberId);
+		memberInfo.setMemberName(memberName);
+		memberInfo.setProfileImage(profileImage);
+		return memberInfo;
+	}
+}
@@ -0,0 +1,22 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.request;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주최자가 여러 신청을 한번에 승인/거절할 때 받는 요청
+ *
+ * @fileName      : PartyBulkRequestDto
+ * @author        : mycom
+ * @since         : 2023-06-29
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class PartyBulkRequestDto {
+	// 처리할 파티신청 정보의 ID, 앞에 있는 신청부터 자리를 배정한다.
+	private List<Long> participateIds;
+}
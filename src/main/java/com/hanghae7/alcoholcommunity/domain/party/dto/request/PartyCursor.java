@@ -0,0 +1,57 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 목록 커서 페이지네이션에 사용하는 커서
+ * 마지막으로 받은 모임의 정렬 기준 시각과 Id를 담고, 클라이언트에는 Base64 문자열로만 전달한다.
+ * 검색처럼 관련도 순으로 정렬하는 경우 관련도 점수도 함께 담는다.
+ *
+ * @fileName      : PartyCursor
+ * @author        : mycom
+ * @since         : 2023-06-23
+ */
+@Getter
+@AllArgsConstructor
+public class PartyCursor {
+
+	private static final char SEPARATOR = '_';
+
+	private final int score;
+	private final LocalDateTime sortKey;
+	private final Long partyId;
+
+	public PartyCursor(LocalDateTime sortKey, Long partyId) {
+		this(0, sortKey, partyId);
+	}
+
+	/**
+	 * 클라이언트가 보낸 커서 문자열 해석
+	 * @param cursor 이전 응답의 nextCursor
+	 * @return 커서
+	 * @throws IllegalArgumentException 잘못된 커서인 경우
+	 */
+	public static PartyCursor decode(String cursor) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] keys = decoded.split(String.valueOf(SEPARATOR));
+			if (keys.length != 3) {
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			}
+			return new PartyCursor(Integer.parseInt(keys[0]), LocalDateTime.parse(keys[1]), Long.parseLong(keys[2]));
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다.", e);
+		}
+	}
+
+	public String encode() {
+		String raw = String.valueOf(score) + SEPARATOR + sortKey + SEPARATOR + partyId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,21 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색어 자동완성 결과
+ *
+ * @fileName      : PartyAutocompleteResponse
+ * @author        : mycom
+ * @since         : 2023-06-24
+ */
+@Getter
+@AllArgsConstructor
+public class PartyAutocompleteResponse {
+
+	// 역 이름/장소 이름/지역 이름
+	private String keyword;
+	// 해당 이름을 가진 모임 수
+	private int partyCount;
+}
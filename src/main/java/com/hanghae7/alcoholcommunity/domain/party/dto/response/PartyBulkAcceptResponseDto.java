@@ -0,0 +1,22 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 승인 결과
+ *
+ * @fileName      : PartyBulkAcceptResponseDto
+ * @author        : mycom
+ * @since         : 2023-06-29
+ */
+@Getter
+@AllArgsConstructor
+public class PartyBulkAcceptResponseDto {
+	// 자리를 배정받아 승인된 파티신청 ID
+	private List<Long> accepted;
+	// 자리가 없어 대기열에 등록된 파티신청 ID
+	private List<Long> waitlisted;
+}
@@ -0,0 +1,26 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지도 클러스터 마커
+ *
+ * @fileName      : PartyClusterResponse
+ * @author        : mycom
+ * @since         : 2023-06-26
+ */
+@Getter
+@AllArgsConstructor
+public class PartyClusterResponse {
+	// 클러스터가 속한 GeoHash 셀
+	private String geohash;
+	// 클러스터에 속한 모임들의 평균 좌표
+	private double latitude;
+	private double longitude;
+	private int count;
+	// 클러스터에 속한 모임 Id 일부
+	private List<Long> partyIds;
+}
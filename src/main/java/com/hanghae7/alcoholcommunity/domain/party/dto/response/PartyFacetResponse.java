@@ -0,0 +1,25 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.response;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 필터 화면에 보여줄 필터별 모임 수
+ *
+ * @fileName      : PartyFacetResponse
+ * @author        : mycom
+ * @since         : 2023-06-28
+ */
+@Getter
+@AllArgsConstructor
+public class PartyFacetResponse {
+	// 지역/카테고리/컨셉 이름별 모임 수, 모임 수가 많은 순
+	private Map<String, Integer> regionName;
+	private Map<String, Integer> categoryName;
+	private Map<String, Integer> concept;
+	// 모집중/모집마감 모임 수
+	private int recruiting;
+	private int closed;
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
 import com.hanghae7.alcoholcommunity.domain.party.dto.Info.MemberInfoDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
 import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
 
 import lombok.Getter;
@@ -87,6 +88,30 @@ public class PartyListResponse {
 		this.categoryName = party.getCategoryName();
 	}
 
+	public PartyListResponse(PartyCardDto card, int state) {
+		this.partyId = card.getPartyId();
+		this.title = card.getTitle();
+		this.partyDate = card.getPartyDate();
+		this.recruitmentStatus = card.isRecruitmentStatus();
+		this.latitude = card.getLatitude();
+		this.longitude = card.getLongitude();
+		this.totalCount = card.getTotalCount();
+		this.currentCount = card.getCurrentCount();
+		this.state = state;
+		this.imageUrl = card.getImageUrl();
+		this.distance = card.getDistance();
+		this.stationName = card.getStationName();
+		this.placeAddress = card.getPlaceAddress();
+		this.placeName = card.getPlaceName();
+		this.placeUrl = card.getPlaceUrl();
+		this.regionName = card.getRegionName();
+		this.categoryName = card.getCategoryName();
+	}
+
+	public void setMemberInfo(List<MemberInfoDto> memberInfo) {
+		this.memberInfo = memberInfo;
+	}
+
 	public List<MemberInfoDto> getparticipateMembers(List<Member> participateMembers) {
 		List<MemberInfoDto> memberInfos  = new ArrayList<>();
 		for (Member member : participateMembers) {
@@ -14,5 +14,13 @@ public class PartyListResponseDto {
 	private List<PartyListResponse> partyList;
 	private int page;
 	private int totalElements;
+	// 다음 페이지 조회용 커서, 마지막 페이지면 null
+	private String nextCursor;
+
+	public PartyListResponseDto(List<PartyListResponse> partyList, int page, int totalElements) {
+		this.partyList = partyList;
+		this.page = page;
+		this.totalElements = totalElements;
+	}
 
 }
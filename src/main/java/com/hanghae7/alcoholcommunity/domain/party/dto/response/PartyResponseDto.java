@@ -74,6 +74,34 @@ public class PartyResponseDto {
 		this.categoryName = party.getCategoryName();
 	}
 
+	/**
+	 * 캐시된 상세 정보에 조회한 회원의 참여상태를 붙인 복사본
+	 */
+	public PartyResponseDto(PartyResponseDto cached, int state) {
+		this.partyId = cached.partyId;
+		this.title = cached.title;
+		this.content = cached.content;
+		this.partyDate = cached.partyDate;
+		this.recruitmentStatus = cached.recruitmentStatus;
+		this.latitude = cached.latitude;
+		this.longitude = cached.longitude;
+		this.totalCount = cached.totalCount;
+		this.currentCount = cached.currentCount;
+		this.createdAt = cached.createdAt;
+		this.modifiedAt = cached.modifiedAt;
+		this.memberInfo = cached.memberInfo;
+		this.state = state;
+		this.distance = cached.distance;
+		this.stationName = cached.stationName;
+		this.imageUrl = cached.imageUrl;
+		this.placeAddress = cached.placeAddress;
+		this.placeName = cached.placeName;
+		this.placeUrl = cached.placeUrl;
+		this.distanceFromMember = cached.distanceFromMember;
+		this.regionName = cached.regionName;
+		this.categoryName = cached.categoryName;
+	}
+
 	public List<MemberInfoDto> getparticipateMembers(List<PartyParticipate> participateMembers) {
 		List<MemberInfoDto> memberInfos  = new ArrayList<>();
 		for (PartyParticipate participate  : participateMembers) {
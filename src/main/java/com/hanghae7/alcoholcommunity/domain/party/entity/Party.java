@@ -10,7 +10,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 
 import org.hibernate.annotations.ColumnDefault;
 
@@ -33,6 +35,10 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_party_created_at", columnList = "created_at, party_id"),
+	@Index(name = "idx_party_party_date", columnList = "party_date, party_id")
+})
 @Getter
 @NoArgsConstructor
 @Builder
@@ -64,6 +70,11 @@ public class Party extends Timestamped {
 
 	private Double latitude;
 	private Double longitude;
+	// 거리 계산용 값, 좌표가 바뀔 때마다 다시 계산
+	private Double latitudeRad;
+	private Double longitudeRad;
+	private Double cosLatitude;
+	private Double sinLatitude;
 	@JsonFormat(shape = JsonFormat.Shape.STRING,pattern = "yyyy-MM-dd HH:mm:ss",timezone = "Asia/Seoul")
 	private LocalDateTime createdAt;
 	@JsonFormat(shape = JsonFormat.Shape.STRING,pattern = "yyyy-MM-dd HH:mm:ss",timezone = "Asia/Seoul")
@@ -113,6 +124,7 @@ public class Party extends Timestamped {
 			this.distance = partyRequestDto.getDistance();
 			this.regionName = partyRequestDto.getRegionName();
 			this.categoryName = partyRequestDto.getCategoryName();
+			updateLocation();
 	}
 	public void setImageUrl(String imageUrl){
 		this.imageUrl = imageUrl;
@@ -145,7 +157,24 @@ public class Party extends Timestamped {
 			this.distance = partyRequestDto.getDistance();
 			this.regionName = partyRequestDto.getRegionName();
 			this.categoryName = partyRequestDto.getCategoryName();
+			updateLocation();
 		}
+
+	// 좌표로부터 거리 계산용 라디안/삼각함수 값 계산
+	public void updateLocation() {
+		if (latitude == null || longitude == null) {
+			this.latitudeRad = null;
+			this.longitudeRad = null;
+			this.cosLatitude = null;
+			this.sinLatitude = null;
+			return;
+		}
+		this.latitudeRad = Math.toRadians(latitude);
+		this.longitudeRad = Math.toRadians(longitude);
+		this.cosLatitude = Math.cos(latitudeRad);
+		this.sinLatitude = Math.sin(latitudeRad);
+	}
+
 	public void setRecruitmentStatus(boolean recruitmentStatus){
 		this.recruitmentStatus = recruitmentStatus;
 	}
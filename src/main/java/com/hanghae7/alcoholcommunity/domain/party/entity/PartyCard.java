@@ -0,0 +1,106 @@
+package com.hanghae7.alcoholcommunity.domain.party.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모임 목록 카드 조회 전용 테이블
+ * 카드에 보여주는 모임 컬럼과 앞쪽 참여자 몇 명의 프로필을 JSON 으로 한 행에 모아둔다.
+ * 모임이나 참여자가 바뀌는 트랜잭션 안에서 PartyCardUpdater 가 함께 갱신한다.
+ *
+ * @fileName      : PartyCard
+ * @author        : mycom
+ * @since         : 2023-06-26
+ */
+@Entity
+@Table(name = "party_card", indexes = {
+	@Index(name = "idx_party_card_latitude_longitude", columnList = "latitude, longitude"),
+	@Index(name = "idx_party_card_created_at", columnList = "created_at, party_id")
+})
+@Getter
+@NoArgsConstructor
+public class PartyCard {
+
+	// Party 의 Id 를 그대로 사용
+	@Id
+	private Long partyId;
+	private String title;
+	private LocalDateTime partyDate;
+	private boolean recruitmentStatus;
+	private int totalCount;
+	private int currentCount;
+	private Double latitude;
+	private Double longitude;
+	private Double latitudeRad;
+	private Double longitudeRad;
+	private Double cosLatitude;
+	private Double sinLatitude;
+	private double distance;
+	private String stationName;
+	private String imageUrl;
+	private String placeName;
+	private String placeAddress;
+	private String placeUrl;
+	private String regionName;
+	private String categoryName;
+	private LocalDateTime createdAt;
+	// 카드를 만든 모임의 수정 시각, 주기적으로 모임과 비교해서 어긋난 카드를 다시 만든다.
+	private LocalDateTime modifiedAt;
+	// 호스트부터 승인된 참여자 프로필 JSON 배열
+	@Column(columnDefinition = "TEXT")
+	private String memberAvatars;
+	private boolean isDeleted = false;
+
+	public PartyCard(Long partyId) {
+		this.partyId = partyId;
+	}
+
+	// 모임 내용과 참여자 프로필 갱신
+	public void refresh(Party party, String memberAvatars) {
+		this.title = party.getTitle();
+		this.partyDate = party.getPartyDate();
+		this.recruitmentStatus = party.isRecruitmentStatus();
+		this.totalCount = party.getTotalCount();
+		this.currentCount = party.getCurrentCount();
+		this.latitude = party.getLatitude();
+		this.longitude = party.getLongitude();
+		this.latitudeRad = party.getLatitudeRad();
+		this.longitudeRad = party.getLongitudeRad();
+		this.cosLatitude = party.getCosLatitude();
+		this.sinLatitude = party.getSinLatitude();
+		this.distance = party.getDistance();
+		this.stationName = party.getStationName();
+		this.imageUrl = party.getImageUrl();
+		this.placeName = party.getPlaceName();
+		this.placeAddress = party.getPlaceAddress();
+		this.placeUrl = party.getPlaceUrl();
+		this.regionName = party.getRegionName();
+		this.categoryName = party.getCategoryName();
+		this.createdAt = party.getCreatedAt();
+		this.modifiedAt = party.getModifiedAt();
+		this.memberAvatars = memberAvatars;
+		this.isDeleted = party.isDeleted();
+	}
+
+	// 모임의 수정 시각, 인원수, 모집상태가 카드와 같은지 확인
+	public boolean matches(Party party) {
+		return Objects.equals(modifiedAt, party.getModifiedAt())
+			&& totalCount == party.getTotalCount()
+			&& currentCount == party.getCurrentCount()
+			&& recruitmentStatus == party.isRecruitmentStatus()
+			&& isDeleted == party.isDeleted();
+	}
+
+	public void delete() {
+		this.isDeleted = true;
+	}
+}
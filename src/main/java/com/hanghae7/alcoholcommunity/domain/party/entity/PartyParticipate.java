@@ -6,8 +6,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import com.hanghae7.alcoholcommunity.domain.chat.entity.ChatRoom;
 import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
@@ -19,6 +21,9 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_party_participate_waitlist", columnList = "party_party_id, waitlist_position")
+})
 public class PartyParticipate {
 
 	@Id
@@ -51,6 +56,9 @@ public class PartyParticipate {
 
 	private boolean isDeleted = false;
 
+	// 정원이 찬 모임에 승인된 신청의 대기 순번, 대기열에 없으면 null
+	private Long waitlistPosition;
+
 	public PartyParticipate(Party party, Member member, PartyJoinRequestDto partyJoinRequestDto) {
 		this.party=party;
 		this.member=member;
@@ -66,6 +74,10 @@ public class PartyParticipate {
 		this.chatRoom = chatRoom;
 	}
 
+	public boolean isWaitlisted() {
+		return waitlistPosition != null;
+	}
+
 	public void setAwaiting(boolean awaiting){
 		this.awaiting = awaiting;
 	}
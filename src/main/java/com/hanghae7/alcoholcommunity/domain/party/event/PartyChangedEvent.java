@@ -0,0 +1,31 @@
+package com.hanghae7.alcoholcommunity.domain.party.event;
+
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 생성/수정/삭제, 참여인원 변경 시 발행되는 이벤트
+ * 모임 데이터를 복제해서 들고 있는 인덱스들은 트랜잭션 커밋 이후 이 이벤트로 갱신한다.
+ * 모임 카드 테이블은 같은 트랜잭션 안에서 커밋 직전에 갱신한다.
+ *
+ * @fileName      : PartyChangedEvent
+ * @author        : mycom
+ * @since         : 2023-06-22
+ */
+@Getter
+@AllArgsConstructor
+public class PartyChangedEvent {
+
+	public enum Type {
+		CREATED, UPDATED, DELETED, PARTICIPATION
+	}
+
+	private final Type type;
+	private final Party party;
+
+	public Long getPartyId() {
+		return party.getPartyId();
+	}
+}
@@ -0,0 +1,61 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 검색 인덱스용 n-gram 토크나이저
+ * 한글은 띄어쓰기나 조사가 일정하지 않아 형태소 대신 글자 단위 1-gram, 2-gram을 사용한다.
+ *
+ * @fileName      : NGramTokenizer
+ * @author        : mycom
+ * @since         : 2023-06-24
+ */
+final class NGramTokenizer {
+
+	private NGramTokenizer() {
+	}
+
+	/**
+	 * 소문자로 바꾸고 공백 제거
+	 */
+	static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		return text.toLowerCase().replaceAll("\\s+", "");
+	}
+
+	/**
+	 * 문서에 저장할 gram, 한 글자 검색어도 찾을 수 있도록 1-gram까지 저장
+	 * @param normalized 정규화된 문자열
+	 * @return 1-gram, 2-gram 목록
+	 */
+	static Set<String> indexGrams(String normalized) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i < normalized.length(); i++) {
+			grams.add(normalized.substring(i, i + 1));
+			if (i + 1 < normalized.length()) {
+				grams.add(normalized.substring(i, i + 2));
+			}
+		}
+		return grams;
+	}
+
+	/**
+	 * 검색어 한 단어에서 찾아야 하는 gram
+	 * @param normalizedWord 정규화된 검색어
+	 * @return 한 글자면 1-gram, 그 외에는 2-gram 목록
+	 */
+	static Set<String> queryGrams(String normalizedWord) {
+		Set<String> grams = new LinkedHashSet<>();
+		if (normalizedWord.length() == 1) {
+			grams.add(normalizedWord);
+			return grams;
+		}
+		for (int i = 0; i + 1 < normalizedWord.length(); i++) {
+			grams.add(normalizedWord.substring(i, i + 2));
+		}
+		return grams;
+	}
+}
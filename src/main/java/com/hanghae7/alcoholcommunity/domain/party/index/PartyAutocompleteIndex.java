@@ -0,0 +1,136 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyAutocompleteResponse;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 역 이름/장소 이름/지역 이름 자동완성 인덱스
+ * 모임별로 마지막으로 반영한 이름을 기억해두고, 모임이 바뀌면 달라진 이름만 트라이에서 빼고 더한다.
+ * 다른 서버에서 새로 쓰인 이름은 10분마다 트라이를 다시 만들 때 자동완성 후보에 나타난다.
+ *
+ * @fileName      : PartyAutocompleteIndex
+ * @author        : mycom
+ * @since         : 2023-06-24
+ */
+@RequiredArgsConstructor
+@Component
+public class PartyAutocompleteIndex {
+
+	private final PartyRepository partyRepository;
+	private PartyTermTrie trie = new PartyTermTrie();
+	// partyId 별로 트라이에 반영된 이름, key는 정규화된 이름
+	private Map<Long, Map<String, String>> partyTerms = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final PartyIndexRebuild indexRebuild = new PartyIndexRebuild(lock);
+
+	/**
+	 * 서버 시작 시, 그리고 다른 서버의 변경사항을 반영하기 위해 주기적으로 인덱스 재구성
+	 * 새 트라이를 만드는 동안 이름이 바뀐 모임은 트라이를 바꾼 뒤 다시 반영해서, 지운 이름이 되살아나거나 새 이름이 빠지지 않는다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedRate = 600000, initialDelay = 600000)
+	public void rebuild() {
+		indexRebuild.rebuild(() -> {
+			PartyTermTrie built = new PartyTermTrie();
+			Map<Long, Map<String, String>> builtTerms = new HashMap<>();
+			for (Party party : partyRepository.findAllByisDeletedFalse()) {
+				Map<String, String> terms = terms(party);
+				terms.forEach(built::add);
+				builtTerms.put(party.getPartyId(), terms);
+			}
+			return new Snapshot(built, builtTerms);
+		}, snapshot -> {
+			trie = snapshot.trie;
+			partyTerms = snapshot.partyTerms;
+		}, this::apply);
+	}
+
+	/**
+	 * 모임 변경이 커밋된 뒤 달라진 이름만 반영
+	 */
+	@TransactionalEventListener
+	public void onPartyChanged(PartyChangedEvent event) {
+		indexRebuild.apply(event, this::apply);
+	}
+
+	private void apply(PartyChangedEvent event) {
+		Party party = event.getParty();
+		Map<String, String> terms = event.getType() == PartyChangedEvent.Type.DELETED || party.isDeleted()
+			? Collections.emptyMap()
+			: terms(party);
+		Map<String, String> previous = partyTerms.getOrDefault(party.getPartyId(), Collections.emptyMap());
+		for (String key : previous.keySet()) {
+			if (!terms.containsKey(key)) {
+				trie.remove(key);
+			}
+		}
+		for (Map.Entry<String, String> term : terms.entrySet()) {
+			if (!previous.containsKey(term.getKey())) {
+				trie.add(term.getKey(), term.getValue());
+			}
+		}
+		if (terms.isEmpty()) {
+			partyTerms.remove(party.getPartyId());
+		} else {
+			partyTerms.put(party.getPartyId(), terms);
+		}
+	}
+
+	/**
+	 * 입력한 글자로 시작하는 이름을 모임 수가 많은 순으로 조회
+	 * @param keyword 입력한 글자
+	 * @param size 최대 개수
+	 * @return 자동완성 결과
+	 */
+	public List<PartyAutocompleteResponse> suggest(String keyword, int size) {
+		String prefix = NGramTokenizer.normalize(keyword);
+		if (prefix.isEmpty()) {
+			return Collections.emptyList();
+		}
+		lock.readLock().lock();
+		try {
+			return trie.suggest(prefix, size);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static class Snapshot {
+		private final PartyTermTrie trie;
+		private final Map<Long, Map<String, String>> partyTerms;
+
+		private Snapshot(PartyTermTrie trie, Map<Long, Map<String, String>> partyTerms) {
+			this.trie = trie;
+			this.partyTerms = partyTerms;
+		}
+	}
+
+	private Map<String, String> terms(Party party) {
+		Map<String, String> terms = new LinkedHashMap<>();
+		for (String term : new String[] {party.getStationName(), party.getPlaceName(), party.getRegionName()}) {
+			String key = NGramTokenizer.normalize(term);
+			if (!key.isEmpty()) {
+				terms.putIfAbsent(key, term.trim());
+			}
+		}
+		return terms;
+	}
+}
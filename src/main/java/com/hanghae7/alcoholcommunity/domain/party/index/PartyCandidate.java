@@ -0,0 +1,47 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.time.LocalDateTime;
+
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+
+import lombok.Getter;
+
+/**
+ * 추천 인덱스에 저장되는 모임 정보
+ * 점수 계산에 쓰는 값만 들고 있어서 추천 요청마다 DB를 훑지 않는다.
+ *
+ * @fileName      : PartyCandidate
+ * @author        : mycom
+ * @since         : 2023-06-28
+ */
+@Getter
+public class PartyCandidate {
+
+	private final Long partyId;
+	private final double latitude;
+	private final double longitude;
+	private final LocalDateTime partyDate;
+	private final LocalDateTime createdAt;
+	private final int totalCount;
+	private final int currentCount;
+	private final String categoryName;
+	private final String concept;
+
+	public PartyCandidate(Party party) {
+		this(party.getPartyId(), party.getLatitude(), party.getLongitude(), party.getPartyDate(), party.getCreatedAt(),
+			party.getTotalCount(), party.getCurrentCount(), party.getCategoryName(), party.getConcept());
+	}
+
+	PartyCandidate(Long partyId, double latitude, double longitude, LocalDateTime partyDate, LocalDateTime createdAt,
+		int totalCount, int currentCount, String categoryName, String concept) {
+		this.partyId = partyId;
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.partyDate = partyDate;
+		this.createdAt = createdAt;
+		this.totalCount = totalCount;
+		this.currentCount = currentCount;
+		this.categoryName = categoryName;
+		this.concept = concept;
+	}
+}
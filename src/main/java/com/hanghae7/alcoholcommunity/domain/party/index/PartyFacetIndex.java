@@ -0,0 +1,149 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyFacetDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyFacetResponse;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역/카테고리/컨셉/모집 상태별 모임 수
+ * 모임별로 마지막으로 센 값을 기억해두고, 모임이 바뀌면 이전 값은 빼고 새 값은 더해서 요청마다 GROUP BY 하지 않는다.
+ * 다른 서버에서 변경된 모임과 놓친 이벤트는 주기적으로 DB와 맞춘다.
+ *
+ * @fileName      : PartyFacetIndex
+ * @author        : mycom
+ * @since         : 2023-06-28
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PartyFacetIndex {
+
+	private final PartyRepository partyRepository;
+	// partyId 별로 카운트에 반영된 값
+	private Map<Long, PartyFacetDto> parties = new HashMap<>();
+	private Counts counts = new Counts();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final PartyIndexRebuild indexRebuild = new PartyIndexRebuild(lock);
+
+	/**
+	 * 서버 시작 시, 그리고 DB와 어긋난 카운트를 바로잡기 위해 주기적으로 다시 센다.
+	 * 다시 세는 동안 들어온 변경은 새 카운트로 바꾼 뒤 다시 반영해서 되돌려지지 않게 한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedRate = 600000, initialDelay = 600000)
+	public void reconcile() {
+		indexRebuild.rebuild(partyRepository::findAllFacets, facets -> {
+			Map<Long, PartyFacetDto> built = new HashMap<>();
+			Counts builtCounts = new Counts();
+			for (PartyFacetDto facet : facets) {
+				built.put(facet.getPartyId(), facet);
+				builtCounts.apply(facet, 1);
+			}
+			if (!counts.equals(builtCounts)) {
+				log.info("party facet counts reconciled parties={} before={}", built.size(), parties.size());
+			}
+			parties = built;
+			counts = builtCounts;
+		}, this::apply);
+	}
+
+	/**
+	 * 모임 변경이 커밋된 뒤 이전 값은 빼고 새 값은 더한다.
+	 */
+	@TransactionalEventListener
+	public void onPartyChanged(PartyChangedEvent event) {
+		indexRebuild.apply(event, this::apply);
+	}
+
+	private void apply(PartyChangedEvent event) {
+		PartyFacetDto facet = event.getType() == PartyChangedEvent.Type.DELETED || event.getParty().isDeleted()
+			? null
+			: new PartyFacetDto(event.getParty());
+		PartyFacetDto previous = facet == null ? parties.remove(event.getPartyId()) : parties.put(event.getPartyId(), facet);
+		if (previous != null) {
+			counts.apply(previous, -1);
+		}
+		if (facet != null) {
+			counts.apply(facet, 1);
+		}
+	}
+
+	/**
+	 * @return 필터별 모임 수, 이름별 모임 수는 많은 순으로 정렬
+	 */
+	public PartyFacetResponse facets() {
+		lock.readLock().lock();
+		try {
+			return new PartyFacetResponse(sorted(counts.regionName), sorted(counts.categoryName), sorted(counts.concept),
+				counts.recruiting, counts.closed);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private Map<String, Integer> sorted(Map<String, Integer> count) {
+		Map<String, Integer> sorted = new LinkedHashMap<>();
+		count.entrySet().stream()
+			.sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+			.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+		return sorted;
+	}
+
+	private static class Counts {
+		private final Map<String, Integer> regionName = new HashMap<>();
+		private final Map<String, Integer> categoryName = new HashMap<>();
+		private final Map<String, Integer> concept = new HashMap<>();
+		private int recruiting;
+		private int closed;
+
+		private void apply(PartyFacetDto facet, int delta) {
+			apply(regionName, facet.getRegionName(), delta);
+			apply(categoryName, facet.getCategoryName(), delta);
+			apply(concept, facet.getConcept(), delta);
+			if (facet.isRecruitmentStatus()) {
+				recruiting += delta;
+			} else {
+				closed += delta;
+			}
+		}
+
+		private void apply(Map<String, Integer> count, String name, int delta) {
+			if (name == null || name.isBlank()) {
+				return;
+			}
+			// 0이 된 이름은 필터 목록에서 빠지도록 지운다.
+			count.merge(name, delta, (current, added) -> current + added == 0 ? null : current + added);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Counts)) {
+				return false;
+			}
+			Counts other = (Counts)o;
+			return recruiting == other.recruiting && closed == other.closed && regionName.equals(other.regionName)
+				&& categoryName.equals(other.categoryName) && concept.equals(other.concept);
+		}
+
+		@Override
+		public int hashCode() {
+			return recruiting * 31 + closed;
+		}
+	}
+}
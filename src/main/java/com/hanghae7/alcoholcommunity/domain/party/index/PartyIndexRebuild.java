@@ -0,0 +1,78 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+
+/**
+ * 메모리 인덱스의 재구성과 변경 반영을 같은 쓰기 잠금으로 묶는 도우미
+ * 재구성은 조회를 막지 않도록 잠금 없이 DB를 읽으므로, 그 사이 커밋된 변경은 모임별 마지막 이벤트만 기록해뒀다가
+ * 새 인덱스로 바꾼 직후 같은 잠금 안에서 다시 반영한다. 이벤트 반영은 모임의 현재 상태로 덮어써야 다시 반영해도 결과가 같다.
+ *
+ * @fileName      : PartyIndexRebuild
+ * @author        : mycom
+ * @since         : 2023-06-30
+ */
+class PartyIndexRebuild {
+
+	private final ReadWriteLock lock;
+	private final Map<Long, PartyChangedEvent> changedDuringRebuild = new LinkedHashMap<>();
+	private boolean rebuilding;
+
+	PartyIndexRebuild(ReadWriteLock lock) {
+		this.lock = lock;
+	}
+
+	/**
+	 * 잠금 없이 새 인덱스를 만든 뒤 쓰기 잠금 안에서 바꾸고, 만드는 동안 들어온 변경을 다시 반영
+	 * @param loader DB를 읽어 새 인덱스를 만드는 함수
+	 * @param swap 새 인덱스로 바꾸는 함수
+	 * @param apply 변경 하나를 반영하는 함수
+	 */
+	<T> void rebuild(Supplier<T> loader, Consumer<T> swap, Consumer<PartyChangedEvent> apply) {
+		lock.writeLock().lock();
+		try {
+			rebuilding = true;
+			changedDuringRebuild.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		T built = null;
+		try {
+			built = loader.get();
+		} finally {
+			lock.writeLock().lock();
+			try {
+				if (built != null) {
+					swap.accept(built);
+					changedDuringRebuild.values().forEach(apply);
+				}
+				rebuilding = false;
+				changedDuringRebuild.clear();
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * 쓰기 잠금 안에서 변경을 반영하고, 재구성 중이면 다시 반영하도록 기록
+	 * @param event 커밋된 변경
+	 * @param apply 변경 하나를 반영하는 함수
+	 */
+	void apply(PartyChangedEvent event, Consumer<PartyChangedEvent> apply) {
+		lock.writeLock().lock();
+		try {
+			apply.accept(event);
+			if (rebuilding) {
+				changedDuringRebuild.put(event.getPartyId(), event);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+}
@@ -0,0 +1,244 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 모임 위치를 단위 구 위의 3차원 좌표로 저장하는 KD-Tree
+ * 삭제는 노드에 표시만 해두고, 삭제된 노드가 살아있는 노드보다 많아지면 균형 트리로 다시 만든다.
+ * 동기화는 PartySpatialIndex 에서 담당한다.
+ *
+ * @fileName      : PartyKdTree
+ * @author        : mycom
+ * @since         : 2023-06-22
+ */
+class PartyKdTree {
+
+	private static final int DIMENSION = 3;
+
+	private Node root;
+	private final Map<Long, Node> nodes = new HashMap<>();
+	private int deletedCount;
+
+	private static class Node {
+		private final PartyLocation location;
+		private Node left;
+		private Node right;
+		private boolean deleted;
+
+		private Node(PartyLocation location) {
+			this.location = location;
+		}
+	}
+
+	/**
+	 * 검색 결과, 구 위의 직선거리 제곱을 함께 반환
+	 */
+	static class Neighbor {
+		private final PartyLocation location;
+		private final double chordSquared;
+
+		private Neighbor(PartyLocation location, double chordSquared) {
+			this.location = location;
+			this.chordSquared = chordSquared;
+		}
+
+		PartyLocation getLocation() {
+			return location;
+		}
+
+		double getChordSquared() {
+			return chordSquared;
+		}
+	}
+
+	int size() {
+		return nodes.size();
+	}
+
+	/**
+	 * 좌표 범위 안의 삭제되지 않은 위치 순회
+	 * 범위가 노드의 분할 평면 한쪽에만 걸치면 반대쪽 하위 트리는 보지 않는다.
+	 * @param min 축별 최소 좌표
+	 * @param max 축별 최대 좌표
+	 */
+	void range(double[] min, double[] max, Consumer<PartyLocation> action) {
+		searchRange(root, 0, min, max, action);
+	}
+
+	private void searchRange(Node node, int depth, double[] min, double[] max, Consumer<PartyLocation> action) {
+		if (node == null) {
+			return;
+		}
+		double[] point = node.location.getPoint();
+		if (!node.deleted && inRange(point, min, max)) {
+			action.accept(node.location);
+		}
+		int axis = depth % DIMENSION;
+		// 분할 값보다 작은 값은 왼쪽, 같거나 큰 값은 오른쪽에 있다.
+		if (min[axis] < point[axis]) {
+			searchRange(node.left, depth + 1, min, max, action);
+		}
+		if (max[axis] >= point[axis]) {
+			searchRange(node.right, depth + 1, min, max, action);
+		}
+	}
+
+	private static boolean inRange(double[] point, double[] min, double[] max) {
+		for (int axis = 0; axis < DIMENSION; axis++) {
+			if (point[axis] < min[axis] || point[axis] > max[axis]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 전체 위치로 균형 트리 생성
+	 */
+	void build(List<PartyLocation> locations) {
+		nodes.clear();
+		deletedCount = 0;
+		List<Node> built = new ArrayList<>(locations.size());
+		for (PartyLocation location : locations) {
+			Node node = new Node(location);
+			Node previous = nodes.put(location.getPartyId(), node);
+			if (previous != null) {
+				built.remove(previous);
+			}
+			built.add(node);
+		}
+		root = buildBalanced(built, 0);
+	}
+
+	void put(PartyLocation location) {
+		remove(location.getPartyId());
+		Node node = new Node(location);
+		nodes.put(location.getPartyId(), node);
+		if (root == null) {
+			root = node;
+			return;
+		}
+		Node parent = root;
+		int depth = 0;
+		while (true) {
+			int axis = depth % DIMENSION;
+			if (location.getPoint()[axis] < parent.location.getPoint()[axis]) {
+				if (parent.left == null) {
+					parent.left = node;
+					return;
+				}
+				parent = parent.left;
+			} else {
+				if (parent.right == null) {
+					parent.right = node;
+					return;
+				}
+				parent = parent.right;
+			}
+			depth++;
+		}
+	}
+
+	void remove(Long partyId) {
+		Node node = nodes.remove(partyId);
+		if (node == null) {
+			return;
+		}
+		node.deleted = true;
+		deletedCount++;
+		if (deletedCount > nodes.size()) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * 가까운 순서로 k개 검색
+	 * @param target 기준 좌표
+	 * @param k 최대 개수
+	 * @param maxChordSquared 반경에 해당하는 직선거리 제곱
+	 * @param filter 결과에 포함할 위치 조건
+	 * @return 가까운 순서로 정렬된 결과
+	 */
+	List<Neighbor> nearest(double[] target, int k, double maxChordSquared, Predicate<PartyLocation> filter) {
+		if (k <= 0) {
+			return Collections.emptyList();
+		}
+		PriorityQueue<Neighbor> heap = new PriorityQueue<>(k,
+			Comparator.comparingDouble(Neighbor::getChordSquared).reversed());
+		searchNearest(root, 0, target, k, maxChordSquared, filter, heap);
+		List<Neighbor> result = new ArrayList<>(heap);
+		result.sort(Comparator.comparingDouble(Neighbor::getChordSquared));
+		return result;
+	}
+
+	private void searchNearest(Node node, int depth, double[] target, int k, double maxChordSquared,
+		Predicate<PartyLocation> filter, PriorityQueue<Neighbor> heap) {
+		if (node == null) {
+			return;
+		}
+		double[] point = node.location.getPoint();
+		if (!node.deleted) {
+			double chordSquared = distanceSquared(point, target);
+			if (chordSquared <= maxChordSquared && filter.test(node.location)) {
+				if (heap.size() < k) {
+					heap.offer(new Neighbor(node.location, chordSquared));
+				} else if (chordSquared < heap.peek().getChordSquared()) {
+					heap.poll();
+					heap.offer(new Neighbor(node.location, chordSquared));
+				}
+			}
+		}
+		int axis = depth % DIMENSION;
+		double diff = target[axis] - point[axis];
+		Node near = diff < 0 ? node.left : node.right;
+		Node far = diff < 0 ? node.right : node.left;
+		searchNearest(near, depth + 1, target, k, maxChordSquared, filter, heap);
+		double bound = heap.size() < k ? maxChordSquared : Math.min(maxChordSquared, heap.peek().getChordSquared());
+		if (diff * diff <= bound) {
+			searchNearest(far, depth + 1, target, k, maxChordSquared, filter, heap);
+		}
+	}
+
+	private void rebuild() {
+		List<Node> live = new ArrayList<>(nodes.size());
+		for (Node node : nodes.values()) {
+			node.left = null;
+			node.right = null;
+			live.add(node);
+		}
+		deletedCount = 0;
+		root = buildBalanced(live, 0);
+	}
+
+	private Node buildBalanced(List<Node> list, int depth) {
+		if (list.isEmpty()) {
+			return null;
+		}
+		int axis = depth % DIMENSION;
+		list.sort(Comparator.comparingDouble(node -> node.location.getPoint()[axis]));
+		int median = list.size() / 2;
+		// 같은 값은 오른쪽으로 보내는 put 규칙과 맞추기 위해 중앙값과 같은 값 중 가장 왼쪽을 루트로 선택
+		while (median > 0 && list.get(median - 1).location.getPoint()[axis] == list.get(median).location.getPoint()[axis]) {
+			median--;
+		}
+		Node node = list.get(median);
+		node.left = buildBalanced(new ArrayList<>(list.subList(0, median)), depth + 1);
+		node.right = buildBalanced(new ArrayList<>(list.subList(median + 1, list.size())), depth + 1);
+		return node;
+	}
+
+	static double distanceSquared(double[] a, double[] b) {
+		double dx = a[0] - b[0];
+		double dy = a[1] - b[1];
+		double dz = a[2] - b[2];
+		return dx * dx + dy * dy + dz * dz;
+	}
+}
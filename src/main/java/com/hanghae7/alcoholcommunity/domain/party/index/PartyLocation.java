@@ -0,0 +1,42 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.time.LocalDateTime;
+
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+
+import lombok.Getter;
+
+/**
+ * 공간 인덱스에 저장되는 모임 위치 정보
+ * 위도/경도를 단위 구 위의 3차원 좌표로 바꿔두면 직선거리 순서가 구면거리 순서와 같아진다.
+ *
+ * @fileName      : PartyLocation
+ * @author        : mycom
+ * @since         : 2023-06-22
+ */
+@Getter
+public class PartyLocation {
+
+	private final Long partyId;
+	private final double latitude;
+	private final double longitude;
+	private final boolean recruitmentStatus;
+	private final LocalDateTime partyDate;
+	private final double[] point;
+
+	public PartyLocation(Party party) {
+		this.partyId = party.getPartyId();
+		this.latitude = party.getLatitude();
+		this.longitude = party.getLongitude();
+		this.recruitmentStatus = party.isRecruitmentStatus();
+		this.partyDate = party.getPartyDate();
+		this.point = toPoint(latitude, longitude);
+	}
+
+	static double[] toPoint(double latitude, double longitude) {
+		double latRad = Math.toRadians(latitude);
+		double lonRad = Math.toRadians(longitude);
+		double cosLat = Math.cos(latRad);
+		return new double[] {cosLat * Math.cos(lonRad), cosLat * Math.sin(lonRad), Math.sin(latRad)};
+	}
+}
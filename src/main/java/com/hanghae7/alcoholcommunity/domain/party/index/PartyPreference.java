@@ -0,0 +1,56 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyHistoryDto;
+
+/**
+ * 회원이 참여했던 모임으로 만든 취향 정보
+ * 카테고리/컨셉별로 전체 참여 중 차지하는 비율을 가중치로 쓰고, 이미 참여한 모임은 추천에서 뺀다.
+ *
+ * @fileName      : PartyPreference
+ * @author        : mycom
+ * @since         : 2023-06-28
+ */
+public class PartyPreference {
+
+	public static final PartyPreference NONE = new PartyPreference(Collections.emptyList());
+
+	private final Map<String, Double> categoryWeights = new HashMap<>();
+	private final Map<String, Double> conceptWeights = new HashMap<>();
+	private final Set<Long> joinedPartyIds = new HashSet<>();
+
+	public PartyPreference(List<PartyHistoryDto> history) {
+		for (PartyHistoryDto party : history) {
+			joinedPartyIds.add(party.getPartyId());
+			if (party.getCategoryName() != null) {
+				categoryWeights.merge(party.getCategoryName(), 1.0, Double::sum);
+			}
+			if (party.getConcept() != null) {
+				conceptWeights.merge(party.getConcept(), 1.0, Double::sum);
+			}
+		}
+		if (!history.isEmpty()) {
+			categoryWeights.replaceAll((key, count) -> count / history.size());
+			conceptWeights.replaceAll((key, count) -> count / history.size());
+		}
+	}
+
+	boolean isJoined(Long partyId) {
+		return joinedPartyIds.contains(partyId);
+	}
+
+	/**
+	 * @return 0~1, 카테고리와 컨셉 가중치의 평균
+	 */
+	double match(PartyCandidate candidate) {
+		double category = candidate.getCategoryName() == null ? 0 : categoryWeights.getOrDefault(candidate.getCategoryName(), 0.0);
+		double concept = candidate.getConcept() == null ? 0 : conceptWeights.getOrDefault(candidate.getConcept(), 0.0);
+		return (category + concept) / 2;
+	}
+}
@@ -0,0 +1,171 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoBoundingBox;
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoDistance;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모집중인 모임을 서버 메모리에 들고있는 추천 인덱스
+ * 반경 안의 후보마다 거리, 모임까지 남은 시간, 모집률, 회원 취향, 최신성으로 점수를 매기고
+ * 크기가 size 인 최소 힙으로 상위 size 개만 남겨서 전체를 정렬하지 않는다.
+ * 다른 서버에서 바뀐 모집 상태와 인원은 10분마다 후보를 다시 읽을 때 점수에 반영된다.
+ *
+ * @fileName      : PartyRecommendationIndex
+ * @author        : mycom
+ * @since         : 2023-06-28
+ */
+@RequiredArgsConstructor
+@Component
+public class PartyRecommendationIndex {
+
+	// 점수 항목별 가중치, 합이 1
+	private static final double DISTANCE_WEIGHT = 0.3;
+	private static final double SOON_WEIGHT = 0.2;
+	private static final double FILL_WEIGHT = 0.15;
+	private static final double MATCH_WEIGHT = 0.25;
+	private static final double FRESH_WEIGHT = 0.1;
+	// 모임까지 남은 시간/작성 후 지난 시간이 이만큼이면 해당 항목 점수가 절반이 된다.
+	private static final double SOON_HALF_HOURS = 24;
+	private static final double FRESH_HALF_HOURS = 72;
+
+	private static final Comparator<Recommendation> SCORE_ORDER = Comparator
+		.comparingDouble((Recommendation recommendation) -> recommendation.score).reversed()
+		.thenComparing(recommendation -> recommendation.partyId);
+
+	private final PartyRepository partyRepository;
+	private Map<Long, PartyCandidate> candidates = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final PartyIndexRebuild indexRebuild = new PartyIndexRebuild(lock);
+
+	/**
+	 * 서버 시작 시, 그리고 다른 서버의 변경사항과 지난 모임을 반영하기 위해 주기적으로 인덱스 재구성
+	 * 후보를 읽는 동안 바뀐 모임은 후보를 바꾼 뒤 다시 반영해서 이전 인원/모집 상태로 점수를 매기지 않는다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedRate = 600000, initialDelay = 600000)
+	public void rebuild() {
+		indexRebuild.rebuild(() -> {
+			LocalDateTime now = LocalDateTime.now();
+			return partyRepository.findAllByisDeletedFalse().stream()
+				.filter(party -> isRecommendable(party, now))
+				.map(PartyCandidate::new)
+				.collect(Collectors.toMap(PartyCandidate::getPartyId, candidate -> candidate));
+		}, built -> candidates = built, this::apply);
+	}
+
+	/**
+	 * 모임 변경이 커밋된 뒤 해당 모임만 후보에 넣거나 뺀다.
+	 */
+	@TransactionalEventListener
+	public void onPartyChanged(PartyChangedEvent event) {
+		indexRebuild.apply(event, this::apply);
+	}
+
+	private void apply(PartyChangedEvent event) {
+		Party party = event.getParty();
+		if (event.getType() != PartyChangedEvent.Type.DELETED && isRecommendable(party, LocalDateTime.now())) {
+			candidates.put(party.getPartyId(), new PartyCandidate(party));
+		} else {
+			candidates.remove(party.getPartyId());
+		}
+	}
+
+	/**
+	 * 기준 좌표 반경 안의 모집중인 모임을 추천 점수 순으로 조회
+	 * @param latitude 기준 위도
+	 * @param longitude 기준 경도
+	 * @param radius 반경(km)
+	 * @param preference 조회한 회원의 취향, 비로그인이면 PartyPreference.NONE
+	 * @param now 기준 시각
+	 * @param size 조회할 개수
+	 * @return 점수가 높은 순으로 정렬된 모임 Id 리스트
+	 */
+	public List<Long> recommend(double latitude, double longitude, double radius, PartyPreference preference,
+		LocalDateTime now, int size) {
+		if (size <= 0 || radius <= 0) {
+			return new ArrayList<>();
+		}
+		GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radius);
+		// 상위 size 개만 남기는 최소 힙
+		PriorityQueue<Recommendation> heap = new PriorityQueue<>(size + 1, SCORE_ORDER.reversed());
+		lock.readLock().lock();
+		try {
+			for (PartyCandidate candidate : candidates.values()) {
+				if (!box.contains(candidate.getLatitude(), candidate.getLongitude())
+					|| !candidate.getPartyDate().isAfter(now) || preference.isJoined(candidate.getPartyId())) {
+					continue;
+				}
+				double distance = GeoDistance.haversine(latitude, longitude, candidate.getLatitude(), candidate.getLongitude());
+				if (distance > radius) {
+					continue;
+				}
+				heap.offer(new Recommendation(candidate.getPartyId(), score(candidate, distance, radius, preference, now)));
+				if (heap.size() > size) {
+					heap.poll();
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		List<Recommendation> result = new ArrayList<>(heap);
+		result.sort(SCORE_ORDER);
+		return result.stream()
+			.map(recommendation -> recommendation.partyId)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 추천 점수 계산, 항목별로 0~1 값을 가중 평균한다.
+	 * 가까울수록, 모임이 임박할수록, 많이 모였을수록, 회원이 자주 참여한 카테고리/컨셉일수록, 최근에 올라왔을수록 높다.
+	 */
+	static double score(PartyCandidate candidate, double distance, double radius, PartyPreference preference, LocalDateTime now) {
+		double proximity = Math.max(0, 1 - distance / radius);
+		double hoursUntil = Math.max(0, Duration.between(now, candidate.getPartyDate()).toMinutes() / 60.0);
+		double soon = 1 / (1 + hoursUntil / SOON_HALF_HOURS);
+		double fill = candidate.getTotalCount() <= 0 ? 0 : Math.min(1, (double)candidate.getCurrentCount() / candidate.getTotalCount());
+		double fresh = 0;
+		if (candidate.getCreatedAt() != null) {
+			double hoursSince = Math.max(0, Duration.between(candidate.getCreatedAt(), now).toMinutes() / 60.0);
+			fresh = 1 / (1 + hoursSince / FRESH_HALF_HOURS);
+		}
+		return DISTANCE_WEIGHT * proximity + SOON_WEIGHT * soon + FILL_WEIGHT * fill
+			+ MATCH_WEIGHT * preference.match(candidate) + FRESH_WEIGHT * fresh;
+	}
+
+	private static class Recommendation {
+		private final Long partyId;
+		private final double score;
+
+		private Recommendation(Long partyId, double score) {
+			this.partyId = partyId;
+			this.score = score;
+		}
+	}
+
+	private boolean isRecommendable(Party party, LocalDateTime now) {
+		return !party.isDeleted() && party.isRecruitmentStatus() && party.getLatitude() != null && party.getLongitude() != null
+			&& party.getPartyDate() != null && party.getPartyDate().isAfter(now);
+	}
+}
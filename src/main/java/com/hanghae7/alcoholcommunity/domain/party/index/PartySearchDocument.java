@@ -0,0 +1,83 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+
+import lombok.Getter;
+
+/**
+ * 검색 인덱스에 저장되는 모임 정보
+ * 검색 대상 필드는 정규화된 문자열로, 필터에 쓰는 위치/모집상태/모임날짜는 그대로 들고 있는다.
+ *
+ * @fileName      : PartySearchDocument
+ * @author        : mycom
+ * @since         : 2023-06-24
+ */
+@Getter
+class PartySearchDocument {
+
+	/**
+	 * 검색 대상 필드와 관련도 가중치
+	 */
+	enum Field {
+		TITLE(3), STATION_NAME(2), PLACE_NAME(2), PLACE_ADDRESS(1);
+
+		private final int weight;
+
+		Field(int weight) {
+			this.weight = weight;
+		}
+
+		int getWeight() {
+			return weight;
+		}
+	}
+
+	private final Long partyId;
+	private final PartyLocation location;
+	private final LocalDateTime partyDate;
+	private final String[] fields = new String[Field.values().length];
+	private final Set<String> grams = new HashSet<>();
+
+	PartySearchDocument(Party party) {
+		this.partyId = party.getPartyId();
+		this.location = new PartyLocation(party);
+		this.partyDate = party.getPartyDate();
+		fields[Field.TITLE.ordinal()] = NGramTokenizer.normalize(party.getTitle());
+		fields[Field.STATION_NAME.ordinal()] = NGramTokenizer.normalize(party.getStationName());
+		fields[Field.PLACE_NAME.ordinal()] = NGramTokenizer.normalize(party.getPlaceName());
+		fields[Field.PLACE_ADDRESS.ordinal()] = NGramTokenizer.normalize(party.getPlaceAddress());
+		for (String field : fields) {
+			grams.addAll(NGramTokenizer.indexGrams(field));
+		}
+	}
+
+	/**
+	 * 검색어 단어들에 대한 관련도 점수
+	 * 단어가 포함된 필드의 가중치 합에, 필드가 단어로 시작하면 1점을 더한다.
+	 * @param words 정규화된 검색어 단어 목록
+	 * @return 관련도 점수, 포함되지 않은 단어가 있으면 -1
+	 */
+	int score(Set<String> words) {
+		int score = 0;
+		for (String word : words) {
+			int wordScore = 0;
+			boolean prefix = false;
+			for (Field field : Field.values()) {
+				String value = fields[field.ordinal()];
+				if (value.contains(word)) {
+					wordScore += field.getWeight();
+					prefix |= value.startsWith(word);
+				}
+			}
+			if (wordScore == 0) {
+				return -1;
+			}
+			score += prefix ? wordScore + 1 : wordScore;
+		}
+		return score;
+	}
+}
@@ -0,0 +1,22 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스 결과, 다음 페이지 커서를 만들 수 있도록 정렬 기준을 함께 반환
+ *
+ * @fileName      : PartySearchHit
+ * @author        : mycom
+ * @since         : 2023-06-24
+ */
+@Getter
+@AllArgsConstructor
+public class PartySearchHit {
+
+	private final Long partyId;
+	private final int score;
+	private final LocalDateTime partyDate;
+}
@@ -0,0 +1,205 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoDistance;
+import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyCursor;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모임 제목/역 이름/장소 이름/주소에 대한 n-gram 역색인
+ * gram 별로 해당 gram을 가진 모임 Id를 들고 있어서, 검색어의 gram 중 가장 적은 모임을 가진 gram부터 후보를 좁힌다.
+ * 검색 비용은 전체 모임 수가 아니라 검색어에 걸리는 모임 수에 비례한다.
+ * 다른 서버에서 바뀐 제목/장소는 10분마다 역색인을 새로 만들기 전까지 검색에 걸리지 않을 수 있다.
+ *
+ * @fileName      : PartySearchIndex
+ * @author        : mycom
+ * @since         : 2023-06-24
+ */
+@RequiredArgsConstructor
+@Component
+public class PartySearchIndex {
+
+	private static final Comparator<PartySearchHit> RELEVANCE_ORDER = Comparator
+		.comparingInt(PartySearchHit::getScore).reversed()
+		.thenComparing(PartySearchHit::getPartyDate)
+		.thenComparing(PartySearchHit::getPartyId);
+
+	private final PartyRepository partyRepository;
+	private final Map<Long, PartySearchDocument> documents = new HashMap<>();
+	private final Map<String, Set<Long>> postings = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final PartyIndexRebuild indexRebuild = new PartyIndexRebuild(lock);
+
+	/**
+	 * 서버 시작 시, 그리고 다른 서버의 변경사항을 반영하기 위해 주기적으로 인덱스 재구성
+	 * DB를 읽는 동안 커밋된 변경은 새 색인으로 바꾼 뒤 다시 반영한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedRate = 600000, initialDelay = 600000)
+	public void rebuild() {
+		indexRebuild.rebuild(() -> partyRepository.findAllByisDeletedFalse().stream()
+			.filter(this::isIndexable)
+			.map(PartySearchDocument::new)
+			.collect(Collectors.toList()), built -> {
+			documents.clear();
+			postings.clear();
+			built.forEach(this::add);
+		}, this::apply);
+	}
+
+	/**
+	 * 모임 변경이 커밋된 뒤 인덱스 갱신
+	 */
+	@TransactionalEventListener
+	public void onPartyChanged(PartyChangedEvent event) {
+		indexRebuild.apply(event, this::apply);
+	}
+
+	private void apply(PartyChangedEvent event) {
+		Party party = event.getParty();
+		remove(party.getPartyId());
+		if (event.getType() != PartyChangedEvent.Type.DELETED && isIndexable(party)) {
+			add(new PartySearchDocument(party));
+		}
+	}
+
+	/**
+	 * 검색어가 포함된 모임을 관련도 순으로 조회
+	 * 띄어쓰기로 나뉜 단어가 모두 포함된 모임만 찾고, 관련도가 같으면 모임 날짜가 빠른 순으로 정렬한다.
+	 * @param keyword 검색어
+	 * @param latitude 기준 위도
+	 * @param longitude 기준 경도
+	 * @param radius 반경(km)
+	 * @param recruitmentStatus 모집 상태, null이면 전체
+	 * @param after 이전 페이지 마지막 결과의 커서, null이면 처음부터
+	 * @param offset 건너뛸 개수
+	 * @param size 조회할 개수
+	 * @return 관련도 순으로 정렬된 검색 결과
+	 */
+	public List<PartySearchHit> search(String keyword, double latitude, double longitude, double radius,
+		Boolean recruitmentStatus, PartyCursor after, int offset, int size) {
+		Set<String> words = new LinkedHashSet<>();
+		for (String word : keyword.toLowerCase().split("\\s+")) {
+			if (!word.isEmpty()) {
+				words.add(word);
+			}
+		}
+		double[] target = PartyLocation.toPoint(latitude, longitude);
+		double maxChord = 2 * Math.sin(Math.min(radius / GeoDistance.EARTH_RADIUS, Math.PI) / 2);
+		double maxChordSquared = maxChord * maxChord;
+
+		List<PartySearchHit> hits = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (PartySearchDocument document : candidates(words)) {
+				PartyLocation location = document.getLocation();
+				if (recruitmentStatus != null && location.isRecruitmentStatus() != recruitmentStatus) {
+					continue;
+				}
+				if (PartyKdTree.distanceSquared(location.getPoint(), target) > maxChordSquared) {
+					continue;
+				}
+				int score = document.score(words);
+				if (score < 0) {
+					continue;
+				}
+				PartySearchHit hit = new PartySearchHit(document.getPartyId(), score, document.getPartyDate());
+				if (after == null || isAfter(hit, after)) {
+					hits.add(hit);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		hits.sort(RELEVANCE_ORDER);
+		return hits.stream()
+			.skip(offset)
+			.limit(size)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 검색어의 모든 gram을 가진 문서 조회
+	 * 가장 짧은 posting 목록에서 시작해서 나머지 gram을 가졌는지 확인한다.
+	 */
+	private Collection<PartySearchDocument> candidates(Set<String> words) {
+		if (words.isEmpty()) {
+			return documents.values();
+		}
+		List<String> grams = new ArrayList<>();
+		for (String word : words) {
+			grams.addAll(NGramTokenizer.queryGrams(word));
+		}
+		List<Set<Long>> postingLists = new ArrayList<>(grams.size());
+		for (String gram : grams) {
+			Set<Long> posting = postings.get(gram);
+			if (posting == null) {
+				return Collections.emptyList();
+			}
+			postingLists.add(posting);
+		}
+		Set<Long> shortest = Collections.min(postingLists, Comparator.comparingInt(Set::size));
+		List<PartySearchDocument> candidates = new ArrayList<>();
+		for (Long partyId : shortest) {
+			PartySearchDocument document = documents.get(partyId);
+			if (document.getGrams().containsAll(grams)) {
+				candidates.add(document);
+			}
+		}
+		return candidates;
+	}
+
+	private boolean isAfter(PartySearchHit hit, PartyCursor cursor) {
+		PartySearchHit last = new PartySearchHit(cursor.getPartyId(), cursor.getScore(), cursor.getSortKey());
+		return RELEVANCE_ORDER.compare(hit, last) > 0;
+	}
+
+	private void add(PartySearchDocument document) {
+		documents.put(document.getPartyId(), document);
+		for (String gram : document.getGrams()) {
+			postings.computeIfAbsent(gram, key -> new HashSet<>()).add(document.getPartyId());
+		}
+	}
+
+	private void remove(Long partyId) {
+		PartySearchDocument document = documents.remove(partyId);
+		if (document == null) {
+			return;
+		}
+		for (String gram : document.getGrams()) {
+			Set<Long> posting = postings.get(gram);
+			posting.remove(partyId);
+			if (posting.isEmpty()) {
+				postings.remove(gram);
+			}
+		}
+	}
+
+	private boolean isIndexable(Party party) {
+		return !party.isDeleted() && party.getLatitude() != null && party.getLongitude() != null
+			&& party.getPartyDate() != null;
+	}
+}
@@ -0,0 +1,233 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoBoundingBox;
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoDistance;
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoHash;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyClusterResponse;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 삭제되지 않고 모임 시간이 지나지 않은 모임의 위치를 서버 메모리에 들고있는 공간 인덱스
+ * 가까운 순 모임 조회는 DB를 훑지 않고 이 인덱스에서 모임 Id만 찾은 뒤 DB에서 해당 모임만 조회한다.
+ * 다른 서버에서 바뀐 위치는 10분마다 KD 트리를 새로 만들 때 반영되므로, 그 전까지 가까운 순 결과에는 이전 위치가 쓰일 수 있다.
+ *
+ * @fileName      : PartySpatialIndex
+ * @author        : mycom
+ * @since         : 2023-06-22
+ */
+@RequiredArgsConstructor
+@Component
+public class PartySpatialIndex {
+
+	// 클러스터마다 함께 내려주는 모임 Id 수
+	private static final int CLUSTER_SAMPLE_SIZE = 5;
+	// 경계 위의 모임이 부동소수점 오차로 빠지지 않도록 3차원 좌표 범위를 조금 넓힌다.
+	private static final double BOUNDS_EPSILON = 1e-9;
+
+	private final PartyRepository partyRepository;
+	private final PartyKdTree tree = new PartyKdTree();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final PartyIndexRebuild indexRebuild = new PartyIndexRebuild(lock);
+
+	/**
+	 * 서버 시작 시, 그리고 다른 서버의 변경사항을 반영하기 위해 주기적으로 인덱스 재구성
+	 * DB를 읽는 동안에는 조회를 막지 않고, 그 사이 들어온 변경은 기록해뒀다가 새 트리에 다시 반영한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedRate = 600000, initialDelay = 600000)
+	public void rebuild() {
+		indexRebuild.rebuild(() -> {
+			LocalDateTime now = LocalDateTime.now();
+			return partyRepository.findAllByisDeletedFalse().stream()
+				.filter(party -> isIndexable(party, now))
+				.map(PartyLocation::new)
+				.collect(Collectors.toList());
+		}, tree::build, this::apply);
+	}
+
+	/**
+	 * 모임 변경이 커밋된 뒤 인덱스 갱신
+	 */
+	@TransactionalEventListener
+	public void onPartyChanged(PartyChangedEvent event) {
+		indexRebuild.apply(event, this::apply);
+	}
+
+	private void apply(PartyChangedEvent event) {
+		Party party = event.getParty();
+		if (event.getType() == PartyChangedEvent.Type.DELETED || !isIndexable(party, LocalDateTime.now())) {
+			tree.remove(party.getPartyId());
+		} else {
+			tree.put(new PartyLocation(party));
+		}
+	}
+
+	/**
+	 * 기준 좌표에서 가까운 순으로 모임 Id 조회
+	 * @param latitude 기준 위도
+	 * @param longitude 기준 경도
+	 * @param radius 반경(km)
+	 * @param recruitmentStatus 모집 상태, null이면 전체
+	 * @param offset 건너뛸 개수
+	 * @param size 조회할 개수
+	 * @return 가까운 순으로 정렬된 모임 Id 리스트
+	 */
+	public List<Long> findNearest(double latitude, double longitude, double radius, Boolean recruitmentStatus, int offset, int size) {
+		double[] target = PartyLocation.toPoint(latitude, longitude);
+		// 구면거리 d에 해당하는 직선거리는 2 * sin(d / 2R)
+		double maxChord = 2 * Math.sin(Math.min(radius / GeoDistance.EARTH_RADIUS, Math.PI) / 2);
+		// 재구성 사이에 모임 시간이 지난 모임은 조회할 때 거른다.
+		LocalDateTime now = LocalDateTime.now();
+		Predicate<PartyLocation> filter = recruitmentStatus == null
+			? location -> location.getPartyDate().isAfter(now)
+			: location -> location.getPartyDate().isAfter(now) && location.isRecruitmentStatus() == recruitmentStatus;
+		List<PartyKdTree.Neighbor> neighbors;
+		lock.readLock().lock();
+		try {
+			neighbors = tree.nearest(target, offset + size, maxChord * maxChord, filter);
+		} finally {
+			lock.readLock().unlock();
+		}
+		return neighbors.stream()
+			.skip(offset)
+			.map(neighbor -> neighbor.getLocation().getPartyId())
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 지도 범위 안의 모임을 GeoHash 셀 단위로 묶어서 조회
+	 * 확대 수준이 낮을수록 짧은 GeoHash 로 묶어서 클러스터 수가 화면 크기에 비례하도록 한다.
+	 * 지도 범위를 감싸는 3차원 좌표 범위로 트리를 좁혀서 범위 밖의 모임은 보지 않고, 날짜변경선을 넘는 범위는 둘로 나눠 찾는다.
+	 * @param box 지도 범위, 서쪽 경도가 동쪽 경도보다 크면 날짜변경선을 넘는 범위
+	 * @param zoom 지도 확대 수준(0~21)
+	 * @param recruitmentStatus 모집 상태, null이면 전체
+	 * @return 모임 수가 많은 순으로 정렬된 클러스터 리스트
+	 */
+	public List<PartyClusterResponse> cluster(GeoBoundingBox box, int zoom, Boolean recruitmentStatus) {
+		int precision = precisionForZoom(zoom);
+		LocalDateTime now = LocalDateTime.now();
+		Map<String, Cluster> clusters = new HashMap<>();
+		lock.readLock().lock();
+		try {
+			for (GeoBoundingBox part : box.splitAtAntimeridian()) {
+				double[][] bounds = pointBounds(part);
+				tree.range(bounds[0], bounds[1], location -> {
+					if (!part.contains(location.getLatitude(), location.getLongitude())) {
+						return;
+					}
+					if (!location.getPartyDate().isAfter(now)
+						|| recruitmentStatus != null && location.isRecruitmentStatus() != recruitmentStatus) {
+						return;
+					}
+					String geohash = GeoHash.encode(location.getLatitude(), location.getLongitude(), precision);
+					clusters.computeIfAbsent(geohash, Cluster::new).add(location);
+				});
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return clusters.values().stream()
+			.sorted(Comparator.comparingInt((Cluster cluster) -> cluster.count).reversed()
+				.thenComparing(cluster -> cluster.geohash))
+			.map(Cluster::toResponse)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 날짜변경선을 넘지 않는 위도/경도 사각형을 감싸는 단위 구 위 3차원 좌표 범위
+	 * x = cos(위도)cos(경도), y = cos(위도)sin(경도), z = sin(위도) 각각의 범위를 구해서 곱의 최소/최대를 쓴다.
+	 * @return {최소 좌표, 최대 좌표}
+	 */
+	static double[][] pointBounds(GeoBoundingBox box) {
+		double minLat = Math.toRadians(Math.max(-90, box.getMinLatitude()));
+		double maxLat = Math.toRadians(Math.min(90, box.getMaxLatitude()));
+		double minLon = Math.toRadians(box.getMinLongitude());
+		double maxLon = Math.toRadians(box.getMaxLongitude());
+
+		// 적도를 포함하면 cos(위도)는 1까지 커진다.
+		double minCosLat = Math.min(Math.cos(minLat), Math.cos(maxLat));
+		double maxCosLat = minLat <= 0 && maxLat >= 0 ? 1 : Math.max(Math.cos(minLat), Math.cos(maxLat));
+		// 경도 범위 안에 0, ±90, ±180도가 있으면 그 지점에서 cos/sin 이 극값을 가진다.
+		double minCosLon = minLon <= -Math.PI || maxLon >= Math.PI ? -1 : Math.min(Math.cos(minLon), Math.cos(maxLon));
+		double maxCosLon = minLon <= 0 && maxLon >= 0 ? 1 : Math.max(Math.cos(minLon), Math.cos(maxLon));
+		double minSinLon = minLon <= -Math.PI / 2 && maxLon >= -Math.PI / 2 ? -1 : Math.min(Math.sin(minLon), Math.sin(maxLon));
+		double maxSinLon = minLon <= Math.PI / 2 && maxLon >= Math.PI / 2 ? 1 : Math.max(Math.sin(minLon), Math.sin(maxLon));
+
+		double[] x = productRange(minCosLat, maxCosLat, minCosLon, maxCosLon);
+		double[] y = productRange(minCosLat, maxCosLat, minSinLon, maxSinLon);
+		return new double[][] {
+			{x[0] - BOUNDS_EPSILON, y[0] - BOUNDS_EPSILON, Math.sin(minLat) - BOUNDS_EPSILON},
+			{x[1] + BOUNDS_EPSILON, y[1] + BOUNDS_EPSILON, Math.sin(maxLat) + BOUNDS_EPSILON}
+		};
+	}
+
+	private static double[] productRange(double minA, double maxA, double minB, double maxB) {
+		double[] products = {minA * minB, minA * maxB, maxA * minB, maxA * maxB};
+		double min = products[0];
+		double max = products[0];
+		for (double product : products) {
+			min = Math.min(min, product);
+			max = Math.max(max, product);
+		}
+		return new double[] {min, max};
+	}
+
+	/**
+	 * 지도 확대 수준에 맞는 GeoHash 길이
+	 * 확대 수준이 2 오를 때마다 GeoHash 한 글자씩 늘린다. 14 이상은 가장 긴 길이(약 150m 셀)를 쓴다.
+	 */
+	static int precisionForZoom(int zoom) {
+		return Math.max(1, Math.min(GeoHash.MAX_PRECISION, zoom / 2));
+	}
+
+	private static class Cluster {
+		private final String geohash;
+		private int count;
+		private double latitudeSum;
+		private double longitudeSum;
+		private final List<Long> partyIds = new ArrayList<>(CLUSTER_SAMPLE_SIZE);
+
+		private Cluster(String geohash) {
+			this.geohash = geohash;
+		}
+
+		private void add(PartyLocation location) {
+			count++;
+			latitudeSum += location.getLatitude();
+			longitudeSum += location.getLongitude();
+			if (partyIds.size() < CLUSTER_SAMPLE_SIZE) {
+				partyIds.add(location.getPartyId());
+			}
+		}
+
+		private PartyClusterResponse toResponse() {
+			return new PartyClusterResponse(geohash, latitudeSum / count, longitudeSum / count, count, partyIds);
+		}
+	}
+
+	private boolean isIndexable(Party party, LocalDateTime now) {
+		return !party.isDeleted() && party.getLatitude() != null && party.getLongitude() != null
+			&& party.getPartyDate() != null && party.getPartyDate().isAfter(now);
+	}
+}
@@ -0,0 +1,185 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyAutocompleteResponse;
+
+/**
+ * 자동완성용 압축 트라이(Radix Trie)
+ * 자식이 하나뿐인 노드는 간선 문자열로 합쳐서 저장하고, 단어 노드에는 해당 단어를 가진 모임 수를 저장한다.
+ * 동기화는 PartyAutocompleteIndex 에서 담당한다.
+ *
+ * @fileName      : PartyTermTrie
+ * @author        : mycom
+ * @since         : 2023-06-24
+ */
+class PartyTermTrie {
+
+	private static final Comparator<Node> SUGGESTION_ORDER = Comparator
+		.comparingInt((Node node) -> node.count).reversed()
+		.thenComparing(node -> node.term);
+
+	private final Node root = new Node("");
+	private int termCount;
+
+	private static class Node {
+		private String label;
+		private Map<Character, Node> children = new HashMap<>();
+		// 이 노드에서 끝나는 단어의 표시용 문자열, 단어가 아니면 null
+		private String term;
+		private int count;
+
+		private Node(String label) {
+			this.label = label;
+		}
+	}
+
+	int size() {
+		return termCount;
+	}
+
+	/**
+	 * 단어의 모임 수 1 증가
+	 * @param key 정규화된 단어
+	 * @param term 표시용 단어
+	 */
+	void add(String key, String term) {
+		Node node = root;
+		int index = 0;
+		while (index < key.length()) {
+			Node child = node.children.get(key.charAt(index));
+			if (child == null) {
+				child = new Node(key.substring(index));
+				node.children.put(key.charAt(index), child);
+				node = child;
+				break;
+			}
+			int common = commonPrefixLength(child.label, key, index);
+			if (common < child.label.length()) {
+				Node middle = new Node(child.label.substring(0, common));
+				child.label = child.label.substring(common);
+				middle.children.put(child.label.charAt(0), child);
+				node.children.put(middle.label.charAt(0), middle);
+				child = middle;
+			}
+			node = child;
+			index += common;
+		}
+		if (node.count == 0) {
+			node.term = term;
+			termCount++;
+		}
+		node.count++;
+	}
+
+	/**
+	 * 단어의 모임 수 1 감소, 0이 되면 트라이에서 제거
+	 * @param key 정규화된 단어
+	 */
+	void remove(String key) {
+		Deque<Node> path = new ArrayDeque<>();
+		Node node = root;
+		int index = 0;
+		while (index < key.length()) {
+			Node child = node.children.get(key.charAt(index));
+			if (child == null || !key.startsWith(child.label, index)) {
+				return;
+			}
+			path.push(node);
+			node = child;
+			index += child.label.length();
+		}
+		if (node.count == 0) {
+			return;
+		}
+		if (--node.count > 0) {
+			return;
+		}
+		node.term = null;
+		termCount--;
+
+		// 빈 노드는 떼어내고, 자식이 하나만 남은 노드는 자식과 합친다.
+		Node parent = path.isEmpty() ? null : path.pop();
+		if (parent != null && node.children.isEmpty()) {
+			parent.children.remove(node.label.charAt(0));
+			node = parent;
+			parent = path.isEmpty() ? null : path.pop();
+		}
+		if (parent != null && node.term == null && node.children.size() == 1) {
+			Node child = node.children.values().iterator().next();
+			node.label = node.label + child.label;
+			node.children = child.children;
+			node.term = child.term;
+			node.count = child.count;
+		}
+	}
+
+	/**
+	 * 접두어로 시작하는 단어를 모임 수가 많은 순으로 조회
+	 * @param prefix 정규화된 접두어
+	 * @param limit 최대 개수
+	 * @return 자동완성 결과
+	 */
+	List<PartyAutocompleteResponse> suggest(String prefix, int limit) {
+		if (limit <= 0) {
+			return Collections.emptyList();
+		}
+		Node node = root;
+		int index = 0;
+		while (index < prefix.length()) {
+			Node child = node.children.get(prefix.charAt(index));
+			if (child == null) {
+				return Collections.emptyList();
+			}
+			int common = commonPrefixLength(child.label, prefix, index);
+			if (index + common == prefix.length()) {
+				node = child;
+				break;
+			}
+			if (common < child.label.length()) {
+				return Collections.emptyList();
+			}
+			node = child;
+			index += common;
+		}
+
+		// 상위 limit 개만 남기는 최소 힙
+		PriorityQueue<Node> heap = new PriorityQueue<>(limit, SUGGESTION_ORDER.reversed());
+		Deque<Node> stack = new ArrayDeque<>();
+		stack.push(node);
+		while (!stack.isEmpty()) {
+			Node current = stack.pop();
+			if (current.term != null) {
+				heap.offer(current);
+				if (heap.size() > limit) {
+					heap.poll();
+				}
+			}
+			current.children.values().forEach(stack::push);
+		}
+		List<Node> result = new ArrayList<>(heap);
+		result.sort(SUGGESTION_ORDER);
+		List<PartyAutocompleteResponse> suggestions = new ArrayList<>(result.size());
+		for (Node suggestion : result) {
+			suggestions.add(new PartyAutocompleteResponse(suggestion.term, suggestion.count));
+		}
+		return suggestions;
+	}
+
+	private int commonPrefixLength(String label, String key, int offset) {
+		int length = 0;
+		while (length < label.length() && offset + length < key.length()
+			&& label.charAt(length) == key.charAt(offset + length)) {
+			length++;
+		}
+		return length;
+	}
+}
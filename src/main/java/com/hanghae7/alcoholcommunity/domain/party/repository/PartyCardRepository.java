@@ -0,0 +1,43 @@
+package com.hanghae7.alcoholcommunity.domain.party.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.entity.PartyCard;
+
+/**
+ * 모임 목록 카드 조회 전용 테이블 Repository
+ *
+ * @fileName      : PartyCardRepository
+ * @author        : mycom
+ * @since         : 2023-06-26
+ */
+@Repository
+public interface PartyCardRepository extends JpaRepository<PartyCard, Long>, PartyCardRepositoryCustom {
+
+	/**
+	 * 모임 카드와 참여자 프로필 JSON 컬럼, alias p 는 PartyCard
+	 */
+	String CARD_COLUMNS = "p.partyId, p.title, p.partyDate, p.recruitmentStatus, p.totalCount, p.currentCount, p.latitude, p.longitude, " +
+		"p.distance, p.stationName, p.imageUrl, p.placeName, p.placeAddress, p.placeUrl, p.regionName, p.categoryName, p.createdAt, " +
+		"p.memberAvatars, p.latitudeRad, p.longitudeRad, p.cosLatitude";
+
+	/**
+	 * 모임 카드와 참여자 프로필 JSON 을 조회하는 select 절, alias p 는 PartyCard
+	 */
+	String CARD_SELECT = "select new com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto(" + CARD_COLUMNS + ")";
+
+	/**
+	 * 인덱스에서 찾은 모임 Id의 카드 정보를 조회하기위한 쿼리
+	 * @param partyIds 모임 Id 목록
+	 * @return 삭제되지 않은 모임의 카드 정보, 순서는 보장하지 않음
+	 */
+	@Query(CARD_SELECT + " from PartyCard p where p.isDeleted = false and p.partyId in :partyIds")
+	List<PartyCardDto> findCardsByPartyIdIn(@Param("partyIds") Collection<Long> partyIds);
+}
@@ -0,0 +1,48 @@
+package com.hanghae7.alcoholcommunity.domain.party.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyCursor;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+
+/**
+ * 조건에 따라 JPQL을 조립해야 하는 모임 카드 조회 쿼리
+ *
+ * @fileName      : PartyCardRepositoryCustom
+ * @author        : mycom
+ * @since         : 2023-06-21
+ */
+public interface PartyCardRepositoryCustom {
+
+	/**
+	 * 반경 안에 있는 모임을 최신순으로 조회
+	 * 반경을 감싸는 위도/경도 사각형으로 후보를 좁힌 뒤 DB에서 거리 조건까지 걸러서 한 페이지가 반경 안의 모임으로만 채워진다.
+	 * @param latitude 중심 위도
+	 * @param longitude 중심 경도
+	 * @param radius 반경(km)
+	 * @param recruitmentStatus 모집 상태, null이면 전체
+	 * @param pageable 페이지 정보
+	 * @return 반경 안의 모임 카드 리스트
+	 */
+	List<PartyCardDto> findAllWithinRadius(double latitude, double longitude, double radius, Boolean recruitmentStatus, Pageable pageable);
+
+	/**
+	 * 반경 안에 있는 모임을 최신순으로 커서 이후부터 조회
+	 * (createdAt, partyId) 기준으로 이어서 조회하므로 앞 페이지를 건너뛰는 비용이 없다.
+	 * @param cursor 이전 페이지 마지막 모임의 (createdAt, partyId), null이면 첫 페이지
+	 * @param size 조회할 개수
+	 * @return 반경 안의 모임 카드 리스트
+	 */
+	List<PartyCardDto> findAllWithinRadiusAfter(double latitude, double longitude, double radius, Boolean recruitmentStatus, PartyCursor cursor, int size);
+
+	/**
+	 * 반경 안에 있는 모임을 최신순으로 한 행씩 읽어오는 스트림
+	 * 결과를 리스트로 모으지 않고 JDBC 커서에서 읽는 대로 넘겨주므로 트랜잭션 안에서 사용하고 반드시 닫아야 한다.
+	 * @param limit 최대 개수
+	 * @return 반경 안의 모임 카드 스트림
+	 */
+	Stream<PartyCardDto> streamWithinRadius(double latitude, double longitude, double radius, Boolean recruitmentStatus, int limit);
+}
@@ -0,0 +1,112 @@
+package com.hanghae7.alcoholcommunity.domain.party.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Pageable;
+
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoBoundingBox;
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoDistance;
+import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyCursor;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+
+/**
+ * PartyCardRepositoryCustom 구현체
+ *
+ * @fileName      : PartyCardRepositoryCustomImpl
+ * @author        : mycom
+ * @since         : 2023-06-21
+ */
+public class PartyCardRepositoryCustomImpl implements PartyCardRepositoryCustom {
+
+	// 스트리밍 조회 시 JDBC 드라이버가 한번에 가져오는 행 수
+	private static final int STREAM_FETCH_SIZE = 200;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<PartyCardDto> findAllWithinRadius(double latitude, double longitude, double radius, Boolean recruitmentStatus, Pageable pageable) {
+		Map<String, Object> params = new HashMap<>();
+		StringBuilder jpql = new StringBuilder(PartyCardRepository.CARD_SELECT).append(" from PartyCard p where p.isDeleted = false");
+		appendStatus(jpql, params, recruitmentStatus);
+		appendRadius(jpql, params, latitude, longitude, radius);
+		jpql.append(" order by p.createdAt desc, p.partyId desc");
+
+		return createQuery(jpql, params)
+			.setFirstResult((int)pageable.getOffset())
+			.setMaxResults(pageable.getPageSize())
+			.getResultList();
+	}
+
+	@Override
+	public List<PartyCardDto> findAllWithinRadiusAfter(double latitude, double longitude, double radius, Boolean recruitmentStatus, PartyCursor cursor, int size) {
+		Map<String, Object> params = new HashMap<>();
+		StringBuilder jpql = new StringBuilder(PartyCardRepository.CARD_SELECT).append(" from PartyCard p where p.isDeleted = false");
+		appendStatus(jpql, params, recruitmentStatus);
+		appendRadius(jpql, params, latitude, longitude, radius);
+		if (cursor != null) {
+			jpql.append(" and (p.createdAt < :cursorKey or (p.createdAt = :cursorKey and p.partyId < :cursorId))");
+			params.put("cursorKey", cursor.getSortKey());
+			params.put("cursorId", cursor.getPartyId());
+		}
+		jpql.append(" order by p.createdAt desc, p.partyId desc");
+
+		return createQuery(jpql, params)
+			.setMaxResults(size)
+			.getResultList();
+	}
+
+	@Override
+	public Stream<PartyCardDto> streamWithinRadius(double latitude, double longitude, double radius, Boolean recruitmentStatus, int limit) {
+		Map<String, Object> params = new HashMap<>();
+		StringBuilder jpql = new StringBuilder(PartyCardRepository.CARD_SELECT).append(" from PartyCard p where p.isDeleted = false");
+		appendStatus(jpql, params, recruitmentStatus);
+		appendRadius(jpql, params, latitude, longitude, radius);
+		jpql.append(" order by p.createdAt desc, p.partyId desc");
+
+		return createQuery(jpql, params)
+			.setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+			.setMaxResults(limit)
+			.getResultStream();
+	}
+
+	private void appendStatus(StringBuilder jpql, Map<String, Object> params, Boolean recruitmentStatus) {
+		if (recruitmentStatus != null) {
+			jpql.append(" and p.recruitmentStatus = :status");
+			params.put("status", recruitmentStatus);
+		}
+	}
+
+	private void appendRadius(StringBuilder jpql, Map<String, Object> params, double latitude, double longitude, double radius) {
+		// (latitude, longitude) 인덱스 범위 조건으로 반경을 감싸는 사각형 안의 후보만 남긴다.
+		GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radius);
+		jpql.append(" and p.latitude between :minLat and :maxLat and p.longitude between :minLon and :maxLon");
+		params.put("minLat", box.getMinLatitude());
+		params.put("maxLat", box.getMaxLatitude());
+		params.put("minLon", box.getMinLongitude());
+		params.put("maxLon", box.getMaxLongitude());
+		// 구면 코사인 법칙, 중심각의 cos 값이 반경에 해당하는 cos 값 이상이면 반경 안
+		// 후보의 라디안/삼각함수 값은 저장된 컬럼을 사용해 행마다 radians, cos(위도), sin(위도)를 계산하지 않는다.
+		jpql.append(" and :cosLat * p.cosLatitude * cos(p.longitudeRad - :lonRad)")
+			.append(" + :sinLat * p.sinLatitude >= :cosRadius");
+		double latRad = Math.toRadians(latitude);
+		params.put("cosLat", Math.cos(latRad));
+		params.put("sinLat", Math.sin(latRad));
+		params.put("lonRad", Math.toRadians(longitude));
+		params.put("cosRadius", Math.cos(Math.min(radius / GeoDistance.EARTH_RADIUS, Math.PI)));
+	}
+
+	private TypedQuery<PartyCardDto> createQuery(StringBuilder jpql, Map<String, Object> params) {
+		TypedQuery<PartyCardDto> query = entityManager.createQuery(jpql.toString(), PartyCardDto.class);
+		params.forEach(query::setParameter);
+		return query;
+	}
+}
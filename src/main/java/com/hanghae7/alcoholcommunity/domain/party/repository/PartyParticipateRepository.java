@@ -1,10 +1,20 @@
 package com.hanghae7.alcoholcommunity.domain.party.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.LockModeType;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.ParticipateCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.ParticipateStateDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyHistoryDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyMemberInfoDto;
 import com.hanghae7.alcoholcommunity.domain.party.entity.PartyParticipate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,6 +36,25 @@ public interface PartyParticipateRepository extends JpaRepository<PartyParticipa
 
 	Optional<PartyParticipate> findByisDeletedFalseAndPartyAndMember(Party party, Member member);
 
+	/**
+	 * 모임 목록을 조회한 회원의 참여상태를 페이지 단위로 조회하기위한 쿼리
+	 * @param member 조회한 회원
+	 * @param partyIds 페이지에 포함된 모임 Id 목록
+	 * @return 해당 회원이 페이지 안의 모임에 가진 참여상태를 리턴
+	 */
+	@Query("select new com.hanghae7.alcoholcommunity.domain.party.dto.Info.ParticipateStateDto(pp.party.partyId, pp.awaiting, pp.rejected, pp.waitlistPosition) " +
+		"from PartyParticipate pp where pp.isDeleted = false and pp.member = :member and pp.party.partyId in :partyIds")
+	List<ParticipateStateDto> findViewerStatesByPartyIds(@Param("member") Member member, @Param("partyIds") Collection<Long> partyIds);
+
+	/**
+	 * 추천 점수의 취향 항목을 계산하기위한 쿼리
+	 * @param member 조회한 회원
+	 * @return 해당 회원이 호스트이거나 참여 중인 모임의 카테고리/컨셉을 리턴, 거절된 신청은 제외
+	 */
+	@Query("select new com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyHistoryDto(p.partyId, p.categoryName, p.concept) " +
+		"from PartyParticipate pp join pp.party p where pp.isDeleted = false and pp.rejected = false and pp.member = :member")
+	List<PartyHistoryDto> findHistoryByMember(@Param("member") Member member);
+
 /*	@Query("select p from PartyParticipate p where p.isDeleted = false and p.party.partyId = :partyId and p.member = :member")
 	Optional<PartyParticipate> findByPartyIdAndMember(@Param("partyId") Long partyId, @Param("member") Member member);
 
@@ -53,6 +82,18 @@ public interface PartyParticipateRepository extends JpaRepository<PartyParticipa
 
 	List<PartyParticipate> findByisDeletedFalseAndAwaitingFalseAndPartyPartyIdOrderByHostDesc(Long partyId);
 
+	/**
+	 * 모임 목록 한 페이지에 속한 모든 모임의 참여자 프로필을 한번에 조회하기위한 쿼리
+	 * 회원 엔티티를 올리지 않아 회원의 알림 목록이 함께 조회되지 않는다.
+	 * @param partyIds 페이지에 포함된 모임 Id 목록
+	 * @return 승인된 참여자 프로필을 호스트 순으로 리턴
+	 */
+	@Query("select new com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyMemberInfoDto(pp.party.partyId, m.memberId, m.memberName, m.profileImage) " +
+		"from PartyParticipate pp join pp.member m " +
+		"where pp.isDeleted = false and pp.awaiting = false and pp.rejected = false and pp.party.partyId in :partyIds " +
+		"order by pp.host desc, pp.id")
+	List<PartyMemberInfoDto> findAcceptedMemberInfosByPartyIds(@Param("partyIds") Collection<Long> partyIds);
+
 /*	@Query("select p from PartyParticipate p where p.isDeleted= false and p.party = :party and p.host = true")
 	PartyParticipate findByParty(@Param("party") Party party);*/
 	PartyParticipate findByisDeletedFalseAndHostTrueAndParty(Party party);
@@ -73,6 +114,17 @@ public interface PartyParticipateRepository extends JpaRepository<PartyParticipa
 
 	List<PartyParticipate> findByisDeletedFalseAndHostFalseAndMemberOrderByPartyPartyDate(Member member);
 
+	/**
+	 * 내가 참여신청한 모임의 카드 정보와 참여상태를 한번에 얻기위한 쿼리
+	 * @param member
+	 * @param pageable
+	 * @return 해당 멤버가 참여신청한 모임의 카드 정보를 모임 날짜 순으로 리턴
+	 */
+	@Query("select new com.hanghae7.alcoholcommunity.domain.party.dto.Info.ParticipateCardDto(" + PartyCardRepository.CARD_COLUMNS +
+		", pp.awaiting, pp.rejected, pp.waitlistPosition) from PartyParticipate pp join PartyCard p on p.partyId = pp.party.partyId " +
+		"where pp.isDeleted = false and pp.host = false and pp.member = :member order by p.partyDate, p.partyId")
+	List<ParticipateCardDto> findParticipateCardsByMember(@Param("member") Member member, Pageable pageable);
+
 	/**
 	 * @param member 토큰에서 얻은 멤버
 	 * @return member 사용자에게 승인요청이 들어온 리스트를 출력하기위한 PartyParticipate을 List로 출력
@@ -81,7 +133,7 @@ public interface PartyParticipateRepository extends JpaRepository<PartyParticipa
 		"WHERE pp.awaiting = true and pp.party.partyId IN " +
 		"(SELECT p.party.partyId FROM PartyParticipate p " +
 		"WHERE p.member = :member AND p.host = true) " +
-		"AND pp.host = false and pp.rejected = false and pp.isDeleted = false")
+		"AND pp.host = false and pp.rejected = false and pp.isDeleted = false and pp.waitlistPosition is null")
 	List<PartyParticipate> findPartyParticipatesByHostAndMemberId(@Param("member") Member member);
 
 
@@ -95,6 +147,16 @@ public interface PartyParticipateRepository extends JpaRepository<PartyParticipa
 
 	List<PartyParticipate> findByisDeletedFalseAndHostTrueAndMemberOrderByPartyPartyDate(Member member);
 
+	/**
+	 * 해당 멤버가 호스트인 모임의 카드 정보를 페이지 단위로 얻기위한 쿼리
+	 * @param member
+	 * @param pageable
+	 * @return 해당 멤버가 호스트인 모임의 카드 정보를 모임 날짜 순으로 리턴
+	 */
+	@Query(PartyCardRepository.CARD_SELECT + " from PartyParticipate pp join PartyCard p on p.partyId = pp.party.partyId " +
+		"where pp.isDeleted = false and pp.host = true and pp.member = :member order by p.partyDate, p.partyId")
+	List<PartyCardDto> findHostCardsByMember(@Param("member") Member member, Pageable pageable);
+
 	@Modifying
 	@Query("UPDATE PartyParticipate pp SET pp.isDeleted = true WHERE pp.party.partyId = :partyId")
 	void softDeletepartyId(@Param("partyId") Long partyId);
@@ -107,6 +169,76 @@ public interface PartyParticipateRepository extends JpaRepository<PartyParticipa
 	@Query("UPDATE PartyParticipate pp SET pp.isDeleted = true WHERE pp.id = :partyParticipateId")
 	void softDeletePartyParticipate(@Param("partyParticipateId") Long partyParticipateId);
 
+	/**
+	 * 승인 대기중인 신청만 승인 상태로 바꾸기위한 쿼리, 같은 신청을 동시에 두번 승인해도 한번만 반영된다.
+	 * @param partyParticipateId
+	 * @return 승인했으면 1, 이미 처리된 신청이면 0
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PartyParticipate pp SET pp.awaiting = false " +
+		"WHERE pp.id = :partyParticipateId AND pp.awaiting = true AND pp.waitlistPosition IS NULL AND pp.rejected = false AND pp.isDeleted = false")
+	int acceptAwaiting(@Param("partyParticipateId") Long partyParticipateId);
+
+	/**
+	 * 해당 모임의 승인 대기중인 신청들을 한번에 승인 상태로 바꾸기위한 쿼리
+	 * @param partyId
+	 * @param partyParticipateIds
+	 * @return 승인한 신청 수, 그 사이 처리된 신청은 제외
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PartyParticipate pp SET pp.awaiting = false " +
+		"WHERE pp.party.partyId = :partyId AND pp.id IN :partyParticipateIds AND pp.awaiting = true " +
+		"AND pp.waitlistPosition IS NULL AND pp.rejected = false AND pp.isDeleted = false AND pp.host = false")
+	int acceptAwaitingIn(@Param("partyId") Long partyId, @Param("partyParticipateIds") Collection<Long> partyParticipateIds);
+
+	/**
+	 * 해당 모임의 승인 대기중이거나 대기열에 있는 신청들을 한번에 거절하기위한 쿼리
+	 * @param partyId
+	 * @param partyParticipateIds
+	 * @return 거절한 신청 수, 그 사이 처리된 신청은 제외
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PartyParticipate pp SET pp.rejected = true, pp.waitlistPosition = null " +
+		"WHERE pp.party.partyId = :partyId AND pp.id IN :partyParticipateIds AND pp.awaiting = true " +
+		"AND pp.rejected = false AND pp.isDeleted = false AND pp.host = false")
+	int rejectAwaitingIn(@Param("partyId") Long partyId, @Param("partyParticipateIds") Collection<Long> partyParticipateIds);
+
+	/**
+	 * 대기열의 마지막 순번을 얻기위한 쿼리
+	 * @param partyId
+	 * @return 해당 모임에서 쓰인 가장 큰 대기 순번, 없으면 0
+	 */
+	@Query("select coalesce(max(pp.waitlistPosition), 0) from PartyParticipate pp where pp.party.partyId = :partyId")
+	Long findMaxWaitlistPosition(@Param("partyId") Long partyId);
+
+	/**
+	 * 자리가 났을 때 승인할 대기열 첫번째 신청을 얻기위한 쿼리
+	 * 잠금 조회로 읽어서 트랜잭션 시작 뒤에 커밋된 대기열 등록도 본다.
+	 * @param partyId
+	 * @return 대기 순번이 가장 빠른 신청
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<PartyParticipate> findFirstByisDeletedFalseAndRejectedFalseAndWaitlistPositionNotNullAndPartyPartyIdOrderByWaitlistPositionAscIdAsc(Long partyId);
+
+	/**
+	 * 신청을 승인 대기 상태로 대기열에 넣기위한 쿼리
+	 * @param partyParticipateId
+	 * @param position 대기 순번
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PartyParticipate pp SET pp.awaiting = true, pp.waitlistPosition = :position WHERE pp.id = :partyParticipateId")
+	void waitlist(@Param("partyParticipateId") Long partyParticipateId, @Param("position") Long position);
+
+	/**
+	 * 대기열에 있는 신청만 승인 상태로 바꾸기위한 쿼리, 동시에 두 요청이 같은 신청을 승인해도 한번만 반영된다.
+	 * @param partyParticipateId
+	 * @return 승인했으면 1, 이미 대기열에서 빠진 신청이면 0
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PartyParticipate pp SET pp.awaiting = false, pp.waitlistPosition = null " +
+		"WHERE pp.id = :partyParticipateId AND pp.waitlistPosition IS NOT NULL AND pp.rejected = false AND pp.isDeleted = false")
+	int promoteWaitlisted(@Param("partyParticipateId") Long partyParticipateId);
+
 	void deleteAllByMemberMemberId(Long memberId);
 }
 
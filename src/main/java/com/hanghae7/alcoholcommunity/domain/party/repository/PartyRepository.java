@@ -4,13 +4,17 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.LockModeType;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyFacetDto;
 import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
 
 /**
@@ -23,20 +27,86 @@ import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
 @Repository
 public interface PartyRepository extends JpaRepository<Party, Long> {
 
-
 	Optional<Party> findByPartyIdOrderByCreatedAtDesc(Long partyId);
 	List<Party> findAllByisDeletedFalseOrderByCreatedAtDesc(Pageable pageable);
 	List<Party> findAllByisDeletedFalseAndRecruitmentStatusOrderByCreatedAtDesc(boolean status, Pageable pageable);
-	List<Party> findAllByPartyDateBefore(LocalDateTime dateTime);
-	@Query("select p from Party p where (p.isDeleted=false) and (p.placeName like %:keyword% or p.stationName like %:keyword% or p.placeAddress like %:keyword%) ORDER BY p.partyDate asc")
-	List<Party> findAllPartyByKeyword(Pageable pageable, @Param("keyword")String keyword);
+	List<Party> findAllByisDeletedFalse();
+	List<Party> findAllByPartyDateBeforeAndIsDeletedFalse(LocalDateTime dateTime);
+	List<Party> findAllByCosLatitudeIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull();
 
-	@Query("select p from Party p where p.recruitmentStatus = :status and p.isDeleted = false and (p.placeName like %:keyword% or p.stationName like %:keyword% or p.placeAddress like %:keyword%) ORDER BY p.partyDate asc")
-	List<Party> findAllPartyByKeywordRecruitmentStatus(@Param("status") boolean status, Pageable pageable, @Param("keyword")String keyword);
+	/**
+	 * 대기열에 넣기 전에 모임 행을 잠그기위한 쿼리
+	 * 자리를 돌려주는 트랜잭션과 순서를 맞춰서, 대기열에 넣는 사이 난 자리를 놓치지 않는다.
+	 * @param partyId
+	 * @return 잠근 모임
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select p from Party p where p.partyId = :partyId")
+	Optional<Party> findByIdForUpdate(@Param("partyId") Long partyId);
+
+	/**
+	 * 필터별 모임 수를 DB 기준으로 다시 맞추기위한 쿼리
+	 * @return 삭제되지 않은 모임의 지역/카테고리/컨셉/모집 상태
+	 */
+	@Query("select new com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyFacetDto(p.partyId, p.regionName, p.categoryName, p.concept, p.recruitmentStatus) " +
+		"from Party p where p.isDeleted = false")
+	List<PartyFacetDto> findAllFacets();
 
 	@Modifying
 	@Query("UPDATE Party p SET p.isDeleted = true WHERE p.partyId = :partyId")
 	void softDeleteParty(@Param("partyId") Long partyId);
 
+	/**
+	 * 모임 자리 하나를 원자적으로 확보하기위한 쿼리
+	 * 읽고 더해서 쓰지 않고 DB가 조건과 증가를 한번에 처리하므로, 동시에 승인해도 정원을 넘지 않는다.
+	 * @param partyId
+	 * @return 자리를 확보했으면 1, 정원이 찼거나 삭제된 모임이면 0
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Party p SET p.currentCount = p.currentCount + 1 " +
+		"WHERE p.partyId = :partyId AND p.isDeleted = false AND p.currentCount < p.totalCount")
+	int reserveSeat(@Param("partyId") Long partyId);
+
+	/**
+	 * 일괄 승인할 자리를 한번에 확보하기위한 쿼리
+	 * @param partyId
+	 * @param count 확보할 자리 수
+	 * @return 모두 확보했으면 1, 남은 자리가 부족하면 0
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Party p SET p.currentCount = p.currentCount + :count " +
+		"WHERE p.partyId = :partyId AND p.isDeleted = false AND p.currentCount + :count <= p.totalCount")
+	int reserveSeats(@Param("partyId") Long partyId, @Param("count") int count);
+
+	/**
+	 * 정원이 찬 모임을 모집 마감하기위한 쿼리, 같음 비교 대신 이상 비교로 마감을 놓치지 않는다.
+	 * 영속성 컨텍스트의 모임은 인원수가 달라졌으므로 비운다.
+	 * @param partyId
+	 * @return 마감했으면 1
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Party p SET p.recruitmentStatus = false WHERE p.partyId = :partyId AND p.currentCount >= p.totalCount")
+	int closeIfFull(@Param("partyId") Long partyId);
+
+	/**
+	 * 참여자가 빠진 모임의 자리 하나를 원자적으로 돌려주고 다시 모집중으로 바꾸기위한 쿼리
+	 * 영속성 컨텍스트의 모임은 인원수가 달라졌으므로 비운다.
+	 * @param partyId
+	 * @return 돌려줬으면 1
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Party p SET p.currentCount = p.currentCount - 1, p.recruitmentStatus = true " +
+		"WHERE p.partyId = :partyId AND p.currentCount > 0")
+	int releaseSeat(@Param("partyId") Long partyId);
+
+	/**
+	 * 정원이 늘어 자리가 남은 모임의 모집을 다시 열기위한 쿼리
+	 * @param partyId
+	 * @return 다시 열렸으면 1
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Party p SET p.recruitmentStatus = true WHERE p.partyId = :partyId AND p.isDeleted = false AND p.currentCount < p.totalCount")
+	int openIfNotFull(@Param("partyId") Long partyId);
+
 
 }
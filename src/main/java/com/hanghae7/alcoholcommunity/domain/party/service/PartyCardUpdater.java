@@ -0,0 +1,137 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.MemberInfoDto;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.entity.PartyCard;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyCardRepository;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 목록 카드 테이블 갱신
+ * 모임 생성/수정/삭제, 참여인원 변경 이벤트를 커밋 직전에 받아서 같은 트랜잭션 안에서 카드를 갱신한다.
+ * 목록 조회는 카드 테이블만 읽으므로 참여자 수와 관계없이 페이지 크기만큼만 조회한다.
+ * 이벤트 없이 바뀐 모임이 카드에 남지 않도록 주기적으로 모임과 카드를 비교해서 다시 만든다.
+ *
+ * @fileName      : PartyCardUpdater
+ * @author        : mycom
+ * @since         : 2023-06-26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PartyCardUpdater {
+
+	// 카드에 저장하는 참여자 프로필 수, 호스트 포함
+	static final int MEMBER_AVATAR_LIMIT = 5;
+	private static final TypeReference<List<MemberInfoDto>> MEMBER_INFO_LIST = new TypeReference<>() {};
+
+	private final PartyCardRepository partyCardRepository;
+	private final PartyRepository partyRepository;
+	private final PartyParticipantLoader partyParticipantLoader;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 모임 변경 트랜잭션이 커밋되기 직전에 카드 갱신
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void onPartyChanged(PartyChangedEvent event) {
+		if (event.getType() == PartyChangedEvent.Type.DELETED) {
+			partyCardRepository.findById(event.getPartyId()).ifPresent(PartyCard::delete);
+			return;
+		}
+		Party party = event.getParty();
+		List<MemberInfoDto> members = partyParticipantLoader.loadAcceptedMembers(Collections.singletonList(party.getPartyId()))
+			.getOrDefault(party.getPartyId(), Collections.emptyList());
+		refresh(party, members);
+	}
+
+	/**
+	 * 카드가 없거나 모임의 수정 시각, 인원수, 모집상태가 카드와 다른 모임의 카드 다시 만들기
+	 * 서버 시작 시 카드 테이블이 추가되기 전에 생성된 모임의 카드도 채운다.
+	 * 삭제된 모임의 카드는 삭제 표시한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedRate = 600000, initialDelay = 600000)
+	@Transactional
+	public void reconcileCards() {
+		Map<Long, PartyCard> cards = partyCardRepository.findAll().stream()
+			.collect(Collectors.toMap(PartyCard::getPartyId, Function.identity()));
+		List<Party> parties = new ArrayList<>();
+		Set<Long> partyIds = new HashSet<>();
+		for (Party party : partyRepository.findAllByisDeletedFalse()) {
+			partyIds.add(party.getPartyId());
+			PartyCard card = cards.get(party.getPartyId());
+			if (card == null || !card.matches(party)) {
+				parties.add(party);
+			}
+		}
+		cards.values().stream()
+			.filter(card -> !card.isDeleted() && !partyIds.contains(card.getPartyId()))
+			.forEach(PartyCard::delete);
+		if (parties.isEmpty()) {
+			return;
+		}
+		log.info("party cards reconciled count={}", parties.size());
+		Map<Long, List<MemberInfoDto>> members = partyParticipantLoader.loadAcceptedMembers(parties.stream()
+			.map(Party::getPartyId)
+			.collect(Collectors.toList()));
+		for (Party party : parties) {
+			refresh(party, members.getOrDefault(party.getPartyId(), Collections.emptyList()));
+		}
+	}
+
+	/**
+	 * 카드에 저장된 참여자 프로필 JSON 변환
+	 * @param memberAvatars 참여자 프로필 JSON
+	 * @return 참여자 프로필 리스트, 호스트가 0번째
+	 */
+	public List<MemberInfoDto> readMembers(String memberAvatars) {
+		if (memberAvatars == null) {
+			return Collections.emptyList();
+		}
+		try {
+			return objectMapper.readValue(memberAvatars, MEMBER_INFO_LIST);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("모임 카드의 참여자 정보를 읽을 수 없습니다.", e);
+		}
+	}
+
+	private void refresh(Party party, Collection<MemberInfoDto> members) {
+		String memberAvatars;
+		try {
+			memberAvatars = objectMapper.writeValueAsString(members.stream()
+				.limit(MEMBER_AVATAR_LIMIT)
+				.collect(Collectors.toList()));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("모임 카드의 참여자 정보를 저장할 수 없습니다.", e);
+		}
+		PartyCard card = partyCardRepository.findById(party.getPartyId())
+			.orElseGet(() -> partyCardRepository.save(new PartyCard(party.getPartyId())));
+		card.refresh(party, memberAvatars);
+	}
+}
@@ -0,0 +1,67 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회된 모임 페이지에 조회자 참여상태, 참여자 프로필, 거리를 붙여서 목록 응답으로 변환
+ * 참여상태는 페이지 전체를 IN 쿼리 한번으로 조회하고, 참여자 프로필과 거리는 카드 값으로 메모리에서 계산한다.
+ * 참여상태 조회는 요청 스레드의 트랜잭션과 커넥션을 그대로 쓴다. 다른 스레드에서 조회하면 요청 하나가 커넥션을 두 개 잡게 된다.
+ *
+ * @fileName      : PartyListEnricher
+ * @author        : mycom
+ * @since         : 2023-06-27
+ */
+@RequiredArgsConstructor
+@Component
+public class PartyListEnricher {
+
+	private final PartyViewerStateResolver partyViewerStateResolver;
+	private final PartyCardUpdater partyCardUpdater;
+
+	/**
+	 * 조회된 모임 페이지를 목록 응답으로 변환
+	 * @param parties 조회된 모임 페이지
+	 * @param viewer 조회한 회원, 비로그인이면 null
+	 * @return 반경 안에 있는 모임 리스트, parties 순서 유지
+	 */
+	public List<PartyListResponse> enrich(List<PartyCardDto> parties, Member viewer, double radius, double longitude, double latitude) {
+		if (parties.isEmpty()) {
+			return Collections.emptyList();
+		}
+		double[] distances = PartyService.distancesFrom(parties, latitude, longitude);
+		List<Long> partyIds = new ArrayList<>(parties.size());
+		for (int i = 0; i < parties.size(); i++) {
+			if (distances[i] <= radius) {
+				partyIds.add(parties.get(i).getPartyId());
+			}
+		}
+		Map<Long, Integer> states = viewer == null || partyIds.isEmpty()
+			? Collections.emptyMap()
+			: partyViewerStateResolver.resolveStates(viewer, partyIds);
+
+		List<PartyListResponse> partyList = new ArrayList<>();
+		for (int i = 0; i < parties.size(); i++) {
+			double distanceFromCoordinate = distances[i];
+			if (distanceFromCoordinate <= radius) {
+				PartyCardDto party = parties.get(i);
+				PartyListResponse partyResponse = new PartyListResponse(party, states.getOrDefault(party.getPartyId(), 0));
+				partyResponse.setMemberInfo(partyCardUpdater.readMembers(party.getMemberAvatars()));
+				partyResponse.setDistanceCal(distanceFromCoordinate);
+				partyList.add(partyResponse);
+			}
+		}
+		return partyList;
+	}
+}
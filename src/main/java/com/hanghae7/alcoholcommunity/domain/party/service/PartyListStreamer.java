@@ -0,0 +1,135 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanghae7.alcoholcommunity.domain.common.ResponseDto;
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponse;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyCardRepository;
+
+/**
+ * 모임 목록을 응답 객체로 모으지 않고 소켓에 바로 쓰는 스트리밍 응답
+ * 카드 조회 결과를 JDBC 커서에서 읽는 대로 CHUNK_SIZE 개씩 조회자 참여상태와 거리를 붙여서 JsonGenerator 로 쓴다.
+ * 한번에 메모리에 올라가는 카드는 CHUNK_SIZE 개뿐이라 지도/내보내기처럼 큰 페이지도 힙 사용량이 일정하다.
+ *
+ * @fileName      : PartyListStreamer
+ * @author        : mycom
+ * @since         : 2023-06-26
+ */
+@Component
+public class PartyListStreamer {
+
+	// 참여상태를 한번에 조회하고 소켓으로 flush 하는 단위
+	private static final int CHUNK_SIZE = 100;
+
+	private final PartyCardRepository partyCardRepository;
+	private final PartyViewerStateResolver partyViewerStateResolver;
+	private final PartyCardUpdater partyCardUpdater;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	public PartyListStreamer(PartyCardRepository partyCardRepository, PartyViewerStateResolver partyViewerStateResolver,
+		PartyCardUpdater partyCardUpdater, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+		this.partyCardRepository = partyCardRepository;
+		this.partyViewerStateResolver = partyViewerStateResolver;
+		this.partyCardUpdater = partyCardUpdater;
+		this.objectMapper = objectMapper;
+		// 응답 본문은 컨트롤러가 반환된 뒤 비동기 스레드에서 쓰이므로 트랜잭션을 직접 연다.
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+	}
+
+	/**
+	 * 반경 안의 모임을 최신순으로 스트리밍
+	 * 응답 형식은 ResponseDto(status, msg, data.partyList, data.totalElements)와 같다.
+	 * @param viewer 조회한 회원, 비로그인이면 null
+	 * @param recruitmentStatus 모집 상태, null이면 전체
+	 * @param limit 최대 개수
+	 * @return 응답 본문을 쓰는 함수
+	 */
+	public StreamingResponseBody stream(Member viewer, double radius, double longitude, double latitude, Boolean recruitmentStatus, int limit) {
+		return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+			try (Stream<PartyCardDto> cards = partyCardRepository.streamWithinRadius(latitude, longitude, radius, recruitmentStatus, limit)) {
+				write(outputStream, cards.iterator(), viewer, radius, longitude, latitude);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	/**
+	 * 목록 대신 응답 메시지만 쓰는 응답 본문
+	 */
+	public StreamingResponseBody message(ResponseDto responseDto) {
+		return outputStream -> objectMapper.writeValue(outputStream, responseDto);
+	}
+
+	private void write(OutputStream outputStream, Iterator<PartyCardDto> cards, Member viewer, double radius, double longitude,
+		double latitude) throws IOException {
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.writeStartObject();
+			generator.writeNumberField("status", 200);
+			generator.writeStringField("msg", "모임 조회에 성공했습니다.");
+			generator.writeObjectFieldStart("data");
+			generator.writeArrayFieldStart("partyList");
+			int written = 0;
+			List<PartyCardDto> chunk = new ArrayList<>(CHUNK_SIZE);
+			while (cards.hasNext()) {
+				chunk.add(cards.next());
+				if (chunk.size() == CHUNK_SIZE) {
+					written += writeChunk(generator, chunk, viewer, radius, longitude, latitude);
+					chunk.clear();
+				}
+			}
+			written += writeChunk(generator, chunk, viewer, radius, longitude, latitude);
+			generator.writeEndArray();
+			generator.writeNumberField("totalElements", written);
+			generator.writeEndObject();
+			generator.writeEndObject();
+		}
+	}
+
+	private int writeChunk(JsonGenerator generator, List<PartyCardDto> chunk, Member viewer, double radius, double longitude,
+		double latitude) throws IOException {
+		if (chunk.isEmpty()) {
+			return 0;
+		}
+		List<Long> partyIds = chunk.stream()
+			.map(PartyCardDto::getPartyId)
+			.collect(Collectors.toList());
+		Map<Long, Integer> states = viewer == null ? Collections.emptyMap() : partyViewerStateResolver.resolveStates(viewer, partyIds);
+		double[] distances = PartyService.distancesFrom(chunk, latitude, longitude);
+		int written = 0;
+		for (int i = 0; i < chunk.size(); i++) {
+			if (!(distances[i] <= radius)) {
+				continue;
+			}
+			PartyCardDto party = chunk.get(i);
+			PartyListResponse partyResponse = new PartyListResponse(party, states.getOrDefault(party.getPartyId(), 0));
+			partyResponse.setMemberInfo(partyCardUpdater.readMembers(party.getMemberAvatars()));
+			partyResponse.setDistanceCal(distances[i]);
+			generator.writeObject(partyResponse);
+			written++;
+		}
+		generator.flush();
+		return written;
+	}
+}
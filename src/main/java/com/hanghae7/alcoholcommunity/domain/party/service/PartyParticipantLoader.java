@@ -0,0 +1,44 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.MemberInfoDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyMemberInfoDto;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyParticipateRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모임 목록 한 페이지의 참여자 정보를 모임별로 묶어서 조회
+ * 모임마다 참여자 쿼리를 날리지 않고 IN 쿼리 한번으로 페이지 전체를 조회한다.
+ *
+ * @fileName      : PartyParticipantLoader
+ * @author        : mycom
+ * @since         : 2023-06-20
+ */
+@RequiredArgsConstructor
+@Component
+public class PartyParticipantLoader {
+
+	private final PartyParticipateRepository partyParticipateRepository;
+
+	/**
+	 * 페이지에 포함된 모임들의 승인된 참여자 프로필 조회
+	 * @param partyIds 조회된 모임 Id 목록
+	 * @return partyId 별 참여자 프로필 리스트, 호스트 순으로 정렬되어 0번째는 호스트
+	 */
+	public Map<Long, List<MemberInfoDto>> loadAcceptedMembers(Collection<Long> partyIds) {
+		if (partyIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return partyParticipateRepository.findAcceptedMemberInfosByPartyIds(partyIds).stream()
+			.collect(Collectors.groupingBy(PartyMemberInfoDto::getPartyId,
+				Collectors.mapping(PartyMemberInfoDto::toMemberInfo, Collectors.toList())));
+	}
+}
@@ -2,56 +2,66 @@ package com.hanghae7.alcoholcommunity.domain.party.service;
 
 // import static com.hanghae7.alcoholcommunity.domain.sse.SseController.*;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.hanghae7.alcoholcommunity.domain.member.repository.MemberRepository;
-import com.hanghae7.alcoholcommunity.domain.notification.dto.NoticeParticipantResponseDto;
-import com.hanghae7.alcoholcommunity.domain.notification.dto.NoticeResponseDto;
-import com.hanghae7.alcoholcommunity.domain.notification.sse.SseSend;
+import com.hanghae7.alcoholcommunity.domain.notification.service.NotificationOutboxService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import com.hanghae7.alcoholcommunity.domain.chat.entity.ChatMessage;
 import com.hanghae7.alcoholcommunity.domain.chat.repository.ChatMessageRepository;
 import com.hanghae7.alcoholcommunity.domain.common.ResponseDto;
 import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
-import com.hanghae7.alcoholcommunity.domain.notification.entity.Notice;
-import com.hanghae7.alcoholcommunity.domain.notification.repository.NoticeRepository;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.MemberInfoDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.ParticipateCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
 import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyJoinRequestDto;
 import com.hanghae7.alcoholcommunity.domain.party.dto.response.ApproveListDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyBulkAcceptResponseDto;
 import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponse;
 import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
 import com.hanghae7.alcoholcommunity.domain.party.entity.PartyParticipate;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
 import com.hanghae7.alcoholcommunity.domain.party.repository.PartyParticipateRepository;
 import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
 
 import lombok.RequiredArgsConstructor;
 
-import static com.hanghae7.alcoholcommunity.domain.notification.controller.SseController.getEmitter;
-
 @RequiredArgsConstructor
 @Service
 public class PartyParticipateService {
 
 	private final PartyParticipateRepository partyParticipateRepository;
 	private final PartyRepository partyRepository;
-	private final NoticeRepository noticeRepository;
 	private final ChatMessageRepository chatMessageRepository;
 	private final MemberRepository memberRepository;
-	private final ObjectMapper objectMapper;
-	private final SseSend sseSend;
+	private final NotificationOutboxService notificationOutboxService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PartyParticipantLoader partyParticipantLoader;
+
+	// 한번에 처리할 수 있는 신청 수
+	static final int MAX_BULK_SIZE = 100;
+	// 내 모임/호스트 모임 목록의 최대 페이지 크기
+	static final int MAX_PAGE_SIZE = 50;
 
 	/**
 	 * 모임신청 메소드, 신청 save시 기본 awating값은 True 설정
@@ -83,36 +93,10 @@ public class PartyParticipateService {
 					return new ResponseEntity<>(new ResponseDto(400, "모임신청사유를 적어주세요!"), HttpStatus.OK);
 				}
 				partyParticipateRepository.save(new PartyParticipate(party, member, partyJoinRequestDto));
+				eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, party));
 				// 파티 참가신청 알림
-				try{
-					//SseEmitter emitter = getEmitter(party.getHostUniqueId());
-					SseEmitter emitter = getEmitter(party.getHostUniqueId());
-					Optional<Member> host = memberRepository.findByMemberUniqueId(party.getHostUniqueId());
-					if(emitter!=null){
-						// 연결되어 있는 사용자의 sseStream으로 알림데이터 전송
-						Notice notice = new Notice(1,party.getPartyId(), party.getTitle(),true, false, host.get(), member.getMemberId());
-						NoticeParticipantResponseDto noticeParticipantResponseDto = new NoticeParticipantResponseDto(
-								notice, member.getProfileImage(), member.getMemberName(), member.getMemberId(), true);
-						String jsonData = objectMapper.writeValueAsString(noticeParticipantResponseDto);
-						try{
-							sseSend.sseSend(emitter, jsonData);
-						} catch (IOException e) {
-							e.printStackTrace();
-						}
-						//notice.updateRead(true);	// sse 전송 후 메세지의 읽음 상태를 변경
-						noticeRepository.save(notice);	// 메세지를 리포지토리에 저장
-						host.get().getMemberNotice().add(notice);
-					}
-					else{
-						// DB에 멤버별로 부재중 알림 저장
-						Notice notice = new Notice(1,party.getPartyId(), party.getTitle(),true, false, host.get(), member.getMemberId());
-						noticeRepository.save(notice);
-						host.get().getMemberNotice().add(notice);
-					}
-				} catch (IOException e) {
-					return new ResponseEntity<>(new ResponseDto(400, e.getMessage()), HttpStatus.OK);
-				}
-				// -> 파티 참가신청 알림
+				Optional<Member> host = memberRepository.findByMemberUniqueId(party.getHostUniqueId());
+				notificationOutboxService.notifyHost(party, host.get(), member, true);
 				return new ResponseEntity<>(new ResponseDto(200, "모임 신청에 성공했습니다."), HttpStatus.OK);
 			} else if (participate.get().isHost()) {
 				return new ResponseEntity<>(new ResponseDto(200, "이미 호스트인 모임입니다."), HttpStatus.OK);
@@ -120,70 +104,20 @@ public class PartyParticipateService {
 				return new ResponseEntity<>(new ResponseDto(200, "거절 된 모임입니다."), HttpStatus.OK);
 			} else if (participate.get().isAwaiting()) {
 				partyParticipateRepository.softDeletePartyParticipate(participate.get().getId());
-				// 파티 참가신청취소 알림 ->
-				try{
-					//SseEmitter emitter = getEmitter(party.getHostUniqueId());
-					SseEmitter emitter = getEmitter(party.getHostUniqueId());
-					Optional<Member> host = memberRepository.findByMemberUniqueId(party.getHostUniqueId());
-					if(emitter!=null){
-						// 연결되어 있는 사용자의 sseStream으로 알림데이터 전송
-						Notice notice = new Notice(1,party.getPartyId(), party.getTitle(),false, false, host.get(), member.getMemberId());
-						NoticeParticipantResponseDto noticeParticipantResponseDto = new NoticeParticipantResponseDto(
-								notice, member.getProfileImage(), member.getMemberName(), member.getMemberId(), false);
-						String jsonData = objectMapper.writeValueAsString(noticeParticipantResponseDto);
-						try{
-							sseSend.sseSend(emitter, jsonData);
-						} catch (IOException e) {
-							e.printStackTrace();
-						}
-						//notice.updateRead(true);	// sse 전송 후 메세지의 읽음 상태를 변경
-						noticeRepository.save(notice);	// 메세지를 리포지토리에 저장
-						host.get().getMemberNotice().add(notice);
-					}
-					else{
-						// DB에 멤버별로 부재중 알림 저장
-						Notice notice = new Notice(1,party.getPartyId(), party.getTitle(),false, false, host.get(), member.getMemberId());
-						noticeRepository.save(notice);
-						host.get().getMemberNotice().add(notice);
-					}
-				} catch (IOException e) {
-					return new ResponseEntity<>(new ResponseDto(400, e.getMessage()), HttpStatus.OK);
-				}
-				// -> 파티 참가신청취소 알림
+				eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, party));
+				// 파티 참가신청취소 알림
+				Optional<Member> host = memberRepository.findByMemberUniqueId(party.getHostUniqueId());
+				notificationOutboxService.notifyHost(party, host.get(), member, false);
 				return new ResponseEntity<>(new ResponseDto(200, "모임 신청이 성공적으로 취소되었습니다."), HttpStatus.OK);
 			} else {
 				partyParticipateRepository.softDeletePartyParticipate(participate.get().getId());
-				party.subCurrentCount();
-				// 파티 참가신청취소 알림 ->
-				try{
-					//SseEmitter emitter = getEmitter(party.getHostUniqueId());
-					SseEmitter emitter = getEmitter(party.getHostUniqueId());
-					Optional<Member> host = memberRepository.findByMemberUniqueId(party.getHostUniqueId());
-					if(emitter!=null){
-						// 연결되어 있는 사용자의 sseStream으로 알림데이터 전송
-						Notice notice = new Notice(1,party.getPartyId(), party.getTitle(),false, false, host.get(), member.getMemberId());
-						NoticeParticipantResponseDto noticeParticipantResponseDto = new NoticeParticipantResponseDto(
-								notice, member.getProfileImage(), member.getMemberName(), member.getMemberId(), false);
-						String jsonData = objectMapper.writeValueAsString(noticeParticipantResponseDto);
-						try{
-							sseSend.sseSend(emitter, jsonData);
-						} catch (IOException e) {
-							e.printStackTrace();
-						}
-						//notice.updateRead(true);	// sse 전송 후 메세지의 읽음 상태를 변경
-						noticeRepository.save(notice);	// 메세지를 리포지토리에 저장
-						host.get().getMemberNotice().add(notice);
-					}
-					else{
-						// DB에 멤버별로 부재중 알림 저장
-						Notice notice = new Notice(1,party.getPartyId(), party.getTitle(),false, false, host.get(), member.getMemberId());
-						noticeRepository.save(notice);
-						host.get().getMemberNotice().add(notice);
-					}
-				} catch (IOException e) {
-					return new ResponseEntity<>(new ResponseDto(400, e.getMessage()), HttpStatus.OK);
-				}
-				// -> 파티 참가신청취소 알림
+				partyRepository.releaseSeat(partyId);
+				promoteWaitlist(partyId);
+				party = partyRepository.findById(partyId).get();
+				eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, party));
+				// 파티 참가신청취소 알림
+				Optional<Member> host = memberRepository.findByMemberUniqueId(party.getHostUniqueId());
+				notificationOutboxService.notifyHost(party, host.get(), member, false);
 				return new ResponseEntity<>(new ResponseDto(200, "모임 신청이 성공적으로 취소되었습니다."), HttpStatus.OK);
 			}
 		}
@@ -191,16 +125,24 @@ public class PartyParticipateService {
 			if (participate.isEmpty()) {
 				return new ResponseEntity<>(new ResponseDto(200, "모집이 마감된 모임입니다."), HttpStatus.OK);
 			}
+			else if (participate.get().isAwaiting()) {
+				// 대기열에 있던 신청은 자리를 차지하지 않았으므로 취소만 한다.
+				partyParticipateRepository.softDeletePartyParticipate(participate.get().getId());
+				eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, party));
+				return new ResponseEntity<>(new ResponseDto(200, "모임 신청이 성공적으로 취소되었습니다."), HttpStatus.OK);
+			}
 			else{
 				partyParticipateRepository.softDeletePartyParticipate(participate.get().getId());
-				party.subCurrentCount();
-				party.setRecruitmentStatus(true);
+				partyRepository.releaseSeat(partyId);
+				promoteWaitlist(partyId);
+				party = partyRepository.findById(partyId).get();
+				eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, party));
 				return new ResponseEntity<>(new ResponseDto(200, "모임에서 탈퇴하였습니다."), HttpStatus.OK);
 			}
 		}
 	}
 	/**
-	 * 주최자가 승인신청 여부판단, 꽉찬 모임이라면 승인안됨
+	 * 주최자가 승인신청 여부판단, 꽉찬 모임이라면 대기열에 등록
 	 * @param participateId 파티신청 정보의 ID
 	 * @return 승인여부 리턴
 	 */
@@ -214,62 +156,232 @@ public class PartyParticipateService {
 		} catch (IllegalArgumentException e) {
 			return new ResponseEntity<>(new ResponseDto(400, "존재하지 않는 참여자 입니다."), HttpStatus.OK);
 		}
+		Long partyId = participate.getParty().getPartyId();
+		if (partyParticipateRepository.acceptAwaiting(participateId) == 0) {
+			return new ResponseEntity<>(new ResponseDto(200, "이미 처리된 신청입니다."), HttpStatus.OK);
+		}
+		// 정원 확인과 인원 증가를 한 쿼리로 처리해서 동시에 승인해도 정원을 넘지 않는다.
+		boolean reserved = partyRepository.reserveSeat(partyId) == 1;
+		if (!reserved) {
+			// 모임을 잠근 뒤 다시 확인해서, 그 사이 탈퇴로 난 자리를 두고 대기열에 넣지 않는다.
+			partyRepository.findByIdForUpdate(partyId);
+			reserved = partyRepository.reserveSeat(partyId) == 1;
+		}
+		if (!reserved) {
+			// 자리가 없으면 대기열 맨 뒤에 넣고, 자리가 나면 순번대로 자동 승인한다.
+			partyParticipateRepository.waitlist(participateId, partyParticipateRepository.findMaxWaitlistPosition(partyId) + 1);
+			eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, participate.getParty()));
+			return new ResponseEntity<>(new ResponseDto(200, "모임이 꽉 차서 대기열에 등록하였습니다."), HttpStatus.OK);
+		}
+		partyRepository.closeIfFull(partyId);
+
+		// 위 쿼리로 영속성 컨텍스트가 비워졌으므로 바뀐 인원수와 모집 상태를 다시 조회
+		participate = partyParticipateRepository.findById(participateId).get();
+		Party party = participate.getParty();
+		joinChatRoom(participate, party);
+		eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, party));
+
+		notificationOutboxService.notifyResult(party, participate.getMember(), true);
+		return new ResponseEntity<>(new ResponseDto(200, "해당 유저를 승인하였습니다."), HttpStatus.OK);
+	}
+
+	/**
+	 * 정원이 늘어난 모임의 빈 자리를 대기열 순번대로 자동 승인하고, 그래도 자리가 남으면 모집을 다시 연다.
+	 * @param partyId 정원이 늘어난 모임 Id
+	 */
+	@Transactional
+	public void fillOpenSeats(Long partyId) {
+		while (promoteWaitlist(partyId)) {
+			// 자리가 없거나 대기열이 빌 때까지 승인
+		}
+		partyRepository.openIfNotFull(partyId);
+	}
+
+	/**
+	 * 자리가 난 모임의 대기열 첫번째 신청을 자동 승인
+	 * 대기열에서 빼는 것과 자리 확보를 각각 조건부 UPDATE 로 처리하고, 그 사이 다른 승인이 자리를 가져가면 같은 순번으로 되돌린다.
+	 * @param partyId 자리가 난 모임 Id
+	 * @return 승인했으면 true
+	 */
+	private boolean promoteWaitlist(Long partyId) {
+		Optional<PartyParticipate> next = partyParticipateRepository
+			.findFirstByisDeletedFalseAndRejectedFalseAndWaitlistPositionNotNullAndPartyPartyIdOrderByWaitlistPositionAscIdAsc(partyId);
+		if (next.isEmpty()) {
+			return false;
+		}
+		Long participateId = next.get().getId();
+		Long position = next.get().getWaitlistPosition();
+		if (partyParticipateRepository.promoteWaitlisted(participateId) == 0) {
+			return false;
+		}
+		if (partyRepository.reserveSeat(partyId) == 0) {
+			partyParticipateRepository.waitlist(participateId, position);
+			return false;
+		}
+		partyRepository.closeIfFull(partyId);
+
+		PartyParticipate participate = partyParticipateRepository.findById(participateId).get();
+		Party party = participate.getParty();
+		joinChatRoom(participate, party);
+		notificationOutboxService.notifyResult(party, participate.getMember(), true);
+		return true;
+	}
+
+	/**
+	 * 승인된 참여자를 호스트의 채팅방에 넣고 입장 메세지 저장
+	 */
+	private void joinChatRoom(PartyParticipate participate, Party party) {
+		PartyParticipate partyParticipate = partyParticipateRepository.findByisDeletedFalseAndHostTrueAndParty(party);
+		participate.setChatRoom(partyParticipate.getChatRoom());
+		ChatMessage chatMessage = new ChatMessage(ChatMessage.MessageType.ENTER, partyParticipate.getChatRoom().getChatRoomUniqueId(), participate.getMember(), participate.getMember().getMemberName()+" 님이 채팅에 참여하였습니다", LocalDateTime.now(),  partyParticipate.getChatRoom());
+		chatMessageRepository.save(chatMessage);
+		//채팅방에 추가해주는 로직추가되야함
+	}
+
+	/**
+	 * 주최자가 여러 신청을 한번에 승인, 요청한 순서대로 남은 자리만큼 승인하고 나머지는 대기열에 등록
+	 * 자리 확보는 한 번의 조건부 UPDATE 로 처리하고, 채팅 입장 메세지와 알림은 모아서 한번에 저장한다.
+	 * @param partyId 모임 Id
+	 * @param participateIds 승인할 파티신청 정보의 ID 목록
+	 * @param member token을 통해 얻은 Member
+	 * @return 승인/대기열 등록된 파티신청 ID 목록
+	 */
+	@Transactional
+	public ResponseEntity<ResponseDto> acceptPartyBulk(Long partyId, List<Long> participateIds, Member member) {
+		ResponseEntity<ResponseDto> invalid = validateBulk(partyId, participateIds, member);
+		if (invalid != null) {
+			return invalid;
+		}
+		Party party = partyRepository.findById(partyId).get();
+		List<Long> applicantIds = findApplicantIds(partyId, participateIds,
+			participate -> participate.isAwaiting() && !participate.isWaitlisted());
+		if (applicantIds.isEmpty()) {
+			return new ResponseEntity<>(new ResponseDto(200, "처리할 신청이 없습니다."), HttpStatus.OK);
+		}
+		if (partyParticipateRepository.acceptAwaitingIn(partyId, applicantIds) != applicantIds.size()) {
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+			return new ResponseEntity<>(new ResponseDto(400, "이미 처리된 신청이 포함되어 있습니다. 다시 시도해주세요."), HttpStatus.OK);
+		}
+		// 정원 확인은 처음 조회한 모임으로 한 번만 하고, 그 사이 다른 승인으로 자리가 줄었으면 전부 되돌린다.
+		// 그 사이 탈퇴로 자리가 늘었으면 대기열에 넣은 뒤 순번대로 채운다.
+		int seats = Math.max(0, Math.min(applicantIds.size(), party.getTotalCount() - party.getCurrentCount()));
+		if (seats > 0 && partyRepository.reserveSeats(partyId, seats) == 0) {
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+			return new ResponseEntity<>(new ResponseDto(400, "다른 승인과 겹쳤습니다. 다시 시도해주세요."), HttpStatus.OK);
+		}
+		List<Long> acceptedIds = applicantIds.subList(0, seats);
+		List<Long> waitlistedIds = new ArrayList<>(applicantIds.subList(seats, applicantIds.size()));
+		if (!waitlistedIds.isEmpty()) {
+			// 대기열에 넣는 동안 자리를 돌려주는 트랜잭션이 대기열을 먼저 확인하고 끝내지 않도록 모임을 잠근다.
+			partyRepository.findByIdForUpdate(partyId);
+		}
+		long position = waitlistedIds.isEmpty() ? 0 : partyParticipateRepository.findMaxWaitlistPosition(partyId);
+		for (Long participateId : waitlistedIds) {
+			partyParticipateRepository.waitlist(participateId, ++position);
+		}
+		partyRepository.closeIfFull(partyId);
+		List<Long> promotedIds = new ArrayList<>();
+		if (!waitlistedIds.isEmpty()) {
+			fillOpenSeats(partyId);
+			// 자동 승인된 신청은 승인 알림과 입장 메세지가 이미 저장되었으므로 응답 목록만 옮긴다.
+			promotedIds = partyParticipateRepository.findAllById(waitlistedIds).stream()
+				.filter(participate -> !participate.isWaitlisted())
+				.map(PartyParticipate::getId)
+				.collect(Collectors.toList());
+			waitlistedIds.removeAll(promotedIds);
+		}
+
+		// 위 쿼리로 영속성 컨텍스트가 비워졌으므로 바뀐 인원수와 모집 상태를 다시 조회
+		party = partyRepository.findById(partyId).get();
+		List<Member> acceptedMembers = new ArrayList<>();
+		if (!acceptedIds.isEmpty()) {
+			PartyParticipate hostParticipate = partyParticipateRepository.findByisDeletedFalseAndHostTrueAndParty(party);
+			List<ChatMessage> chatMessages = new ArrayList<>();
+			for (PartyParticipate participate : partyParticipateRepository.findAllById(acceptedIds)) {
+				participate.setChatRoom(hostParticipate.getChatRoom());
+				chatMessages.add(new ChatMessage(ChatMessage.MessageType.ENTER, hostParticipate.getChatRoom().getChatRoomUniqueId(), participate.getMember(), participate.getMember().getMemberName()+" 님이 채팅에 참여하였습니다", LocalDateTime.now(), hostParticipate.getChatRoom()));
+				acceptedMembers.add(participate.getMember());
+			}
+			chatMessageRepository.saveAll(chatMessages);
+			notificationOutboxService.notifyResults(party, acceptedMembers, true);
+		}
+		eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, party));
+		List<Long> responseAcceptedIds = new ArrayList<>(acceptedIds);
+		responseAcceptedIds.addAll(promotedIds);
+		return new ResponseEntity<>(new ResponseDto(200, "신청을 일괄 승인하였습니다.",
+			new PartyBulkAcceptResponseDto(responseAcceptedIds, waitlistedIds)), HttpStatus.OK);
+	}
+
+	/**
+	 * 주최자가 여러 신청을 한번에 승인 거절, 승인 대기중이거나 대기열에 있는 신청만 거절한다.
+	 * @param partyId 모임 Id
+	 * @param participateIds 거절할 파티신청 정보의 ID 목록
+	 * @param member token을 통해 얻은 Member
+	 * @return 거절된 파티신청 ID 목록
+	 */
+	@Transactional
+	public ResponseEntity<ResponseDto> rejectPartyBulk(Long partyId, List<Long> participateIds, Member member) {
+		ResponseEntity<ResponseDto> invalid = validateBulk(partyId, participateIds, member);
+		if (invalid != null) {
+			return invalid;
+		}
+		Party party = partyRepository.findById(partyId).get();
+		List<Long> applicantIds = findApplicantIds(partyId, participateIds, PartyParticipate::isAwaiting);
+		if (applicantIds.isEmpty()) {
+			return new ResponseEntity<>(new ResponseDto(200, "처리할 신청이 없습니다."), HttpStatus.OK);
+		}
+		if (partyParticipateRepository.rejectAwaitingIn(partyId, applicantIds) != applicantIds.size()) {
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+			return new ResponseEntity<>(new ResponseDto(400, "이미 처리된 신청이 포함되어 있습니다. 다시 시도해주세요."), HttpStatus.OK);
+		}
+		List<Member> rejectedMembers = partyParticipateRepository.findAllById(applicantIds).stream()
+			.map(PartyParticipate::getMember)
+			.collect(Collectors.toList());
+		notificationOutboxService.notifyResults(party, rejectedMembers, false);
+		eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, party));
+		return new ResponseEntity<>(new ResponseDto(200, "신청을 일괄 승인 거절 하였습니다.", applicantIds), HttpStatus.OK);
+	}
+
+	/**
+	 * 일괄 처리 요청 검증, 문제가 없으면 null
+	 */
+	private ResponseEntity<ResponseDto> validateBulk(Long partyId, List<Long> participateIds, Member member) {
+		if (participateIds == null || participateIds.isEmpty()) {
+			return new ResponseEntity<>(new ResponseDto(400, "처리할 신청을 선택해주세요."), HttpStatus.OK);
+		}
+		if (participateIds.size() > MAX_BULK_SIZE) {
+			return new ResponseEntity<>(new ResponseDto(400, "한번에 " + MAX_BULK_SIZE + "개까지 처리할 수 있습니다."), HttpStatus.OK);
+		}
 		Party party = new Party();
 		try {
-			party = partyRepository.findById(participate.getParty().getPartyId()).orElseThrow(
+			party = partyRepository.findById(partyId).orElseThrow(
 				() -> new IllegalArgumentException("존재하지 않는 모임 입니다."));
 		} catch (IllegalArgumentException e) {
 			return new ResponseEntity<>(new ResponseDto(400, "존재하지 않는 모임 입니다."), HttpStatus.OK);
 		}
-
-		if (party.isRecruitmentStatus()) {
-			participate.setAwaiting(false);
-			PartyParticipate partyParticipate = partyParticipateRepository.findByisDeletedFalseAndHostTrueAndParty(party);
-			participate.setChatRoom(partyParticipate.getChatRoom());
-			party.addCurrentCount();
-			ChatMessage chatMessage = new ChatMessage(ChatMessage.MessageType.ENTER, partyParticipate.getChatRoom().getChatRoomUniqueId(), participate.getMember(), participate.getMember().getMemberName()+" 님이 채팅에 참여하였습니다", LocalDateTime.now(),  partyParticipate.getChatRoom());
-			chatMessageRepository.save(chatMessage);
-			//채팅방에 추가해주는 로직추가되야함
-			if (party.getCurrentCount() == party.getTotalCount()) {
-				party.setRecruitmentStatus(false);
-			}
-
-			// 파티 참가승인 알림 메세지 생성
-//			Notice notice = new Notice(party.getPartyId(), party.getTitle(), true, false, participate.getMember());
-//			noticeRepository.save(notice);
-			// 파티 참가승인 알림 전송 파트
-			String  participantId = participate.getMember().getMemberUniqueId();
-			try{
-				SseEmitter emitter = getEmitter(participantId);
-				if(emitter!=null){
-					// 연결되어 있는 사용자의 sseStream으로 알림데이터 전송
-					Notice notice = new Notice(2, party.getPartyId(), party.getTitle(),true, false, participate.getMember(), 0L);
-					NoticeResponseDto noticeResponseDto = new NoticeResponseDto(notice);
-					String jsonData = objectMapper.writeValueAsString(noticeResponseDto);
-					try{
-						sseSend.sseSend(emitter, jsonData);
-					} catch (IOException e) {
-						e.printStackTrace();
-					}
-					//notice.updateRead(true);	// sse 전송 후 메세지의 읽음 상태를 변경
-					noticeRepository.save(notice);	// 메세지를 리포지토리에 저장
-					participate.getMember().getMemberNotice().add(notice);
-				}
-				else{
-					// DB에 멤버별로 부재중 알림 저장
-					Notice notice = new Notice(2, party.getPartyId(), party.getTitle(),true, false, participate.getMember(), 0L);
-					noticeRepository.save(notice);
-					participate.getMember().getMemberNotice().add(notice);
-				}
-			} catch (IOException e) {
-				return new ResponseEntity<>(new ResponseDto(400, e.getMessage()), HttpStatus.OK);
-			}
-			// -> 파티 참가승인 알림 전송 파트
-
-		} else {
-			return new ResponseEntity<>(new ResponseDto(200, "이미 꽉찬 모임방 입니다."), HttpStatus.OK);
+		if (party.isDeleted()) {
+			return new ResponseEntity<>(new ResponseDto(400, "존재하지 않는 모임 입니다."), HttpStatus.OK);
 		}
-		return new ResponseEntity<>(new ResponseDto(200, "해당 유저를 승인하였습니다."), HttpStatus.OK);
+		if (!member.getMemberUniqueId().equals(party.getHostUniqueId())) {
+			return new ResponseEntity<>(new ResponseDto(400, "모임의 호스트만 처리할 수 있습니다."), HttpStatus.OK);
+		}
+		return null;
+	}
+
+	/**
+	 * 요청한 ID 중 해당 모임의 처리 가능한 신청 ID를 요청 순서대로, 중복 없이 조회
+	 */
+	private List<Long> findApplicantIds(Long partyId, List<Long> participateIds, Predicate<PartyParticipate> condition) {
+		Map<Long, PartyParticipate> found = partyParticipateRepository.findAllById(participateIds).stream()
+			.collect(Collectors.toMap(PartyParticipate::getId, Function.identity()));
+		return new LinkedHashSet<>(participateIds).stream()
+			.map(found::get)
+			.filter(Objects::nonNull)
+			.filter(participate -> participate.getParty().getPartyId().equals(partyId))
+			.filter(participate -> !participate.isDeleted() && !participate.isRejected() && !participate.isHost())
+			.filter(condition)
+			.map(PartyParticipate::getId)
+			.collect(Collectors.toList());
 	}
 
 	/**
@@ -296,79 +408,41 @@ public class PartyParticipateService {
 		} catch (IllegalArgumentException e) {
 			return new ResponseEntity<>(new ResponseDto(400, "존재하지 않는 모임 입니다."), HttpStatus.OK);
 		}
+		eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, party));
 
 
-		// 파티 참가거절 알림 메세지 생성
-//		Notice notice = new Notice(party.getPartyId(), party.getTitle(), false, false, participate.getMember());
-//		noticeRepository.save(notice);
-		// 파티 참가승인 알림 전송 파트
-		String  participantId = participate.getMember().getMemberUniqueId();
-		try{
-			SseEmitter emitter = getEmitter(participantId);
-			if(emitter!=null){
-				// 연결되어 있는 사용자의 sseStream으로 알림데이터 전송
-				Notice notice = new Notice(2, party.getPartyId(), party.getTitle(),false, false, participate.getMember(), 0L);
-				NoticeResponseDto noticeResponseDto = new NoticeResponseDto(notice);
-				String jsonData = objectMapper.writeValueAsString(noticeResponseDto);
-				try{
-					sseSend.sseSend(emitter, jsonData);
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-				//notice.updateRead(true);	// sse 전송 후 메세지의 읽음 상태를 변경
-				noticeRepository.save(notice);	// 메세지를 리포지토리에 저장
-				participate.getMember().getMemberNotice().add(notice);
-			}
-			else{
-				// DB에 멤버별로 부재중 알림 저장
-				Notice notice = new Notice(2, party.getPartyId(), party.getTitle(),false, false, participate.getMember(), 0L);
-				noticeRepository.save(notice);
-				participate.getMember().getMemberNotice().add(notice);
-			}
-		} catch (IOException e) {
-			return new ResponseEntity<>(new ResponseDto(400, e.getMessage()), HttpStatus.OK);
-		}
-		// -> 파티 참가승인 알림 전송 파트
+		// 파티 참가거절 알림
+		notificationOutboxService.notifyResult(party, participate.getMember(), false);
 
 		return new ResponseEntity<>(new ResponseDto(200, "해당 유저를 승인 거절 하였습니다."), HttpStatus.OK);
 	}
 
 	/**
 	 * 모임 리스트 (전체/승인완료된리스트/승인대기중인 리스트)
+	 * 카드와 참여상태를 쿼리 한번으로 조회하고, 페이지에 포함된 모임의 승인된 참여자 전원을 IN 쿼리 한번으로 조회한다.
 	 * @param member token을 통해 얻은 Member
+	 * @param page 페이지 번호
+	 * @param size 페이지 크기, 최대 MAX_PAGE_SIZE
 	 * @return approveStatus값에 따른 모임리스트 출력
 	 */
 	@Transactional(readOnly = true)
-	public ResponseEntity<ResponseDto> getParticipatePartyList(Member member) {
+	public ResponseEntity<ResponseDto> getParticipatePartyList(Member member, int page, int size) {
 		if(member.getAuthority().equals("BLOCK")){
 			return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
 		}
-		List<PartyParticipate> parties;
-		parties = partyParticipateRepository.findByisDeletedFalseAndHostFalseAndMemberOrderByPartyPartyDate(member);
+		List<ParticipateCardDto> parties = partyParticipateRepository.findParticipateCardsByMember(member, pageOf(page, size));
+		Map<Long, List<MemberInfoDto>> participateMembers = partyParticipantLoader.loadAcceptedMembers(parties.stream()
+			.map(party -> party.getCard().getPartyId())
+			.collect(Collectors.toList()));
 		List<PartyListResponse> partyList = new ArrayList<>();
-		for (PartyParticipate party : parties) {
-			int state = getState(party);
-			PartyListResponse partyResponse = new PartyListResponse(party.getParty(), state);
-			List<PartyParticipate> partyParticipates = partyParticipateRepository.findByisDeletedFalseAndAwaitingFalseAndPartyPartyIdOrderByHostDesc(
-				party.getParty().getPartyId());
-			partyResponse.getparticipateMembers(partyParticipates.stream()
-				.map(PartyParticipate::getMember)
-				.collect(Collectors.toList()));
+		for (ParticipateCardDto party : parties) {
+			PartyListResponse partyResponse = new PartyListResponse(party.getCard(), party.getState().toState());
+			partyResponse.setMemberInfo(participateMembers.getOrDefault(party.getCard().getPartyId(), Collections.emptyList()));
 			partyList.add(partyResponse);
 		}
 		return new ResponseEntity<>(new ResponseDto(200, "모임 조회에 성공했습니다.", partyList), HttpStatus.OK);
 	}
 
-	public int getState(PartyParticipate partyParticipate) {
-		if (partyParticipate.isRejected()) {
-			return 3;
-		} else if (partyParticipate.isAwaiting()) {
-			return 2;
-		} else {
-			return 1;
-		}
-	}
-
 	/**
 	 * 내게 들어온 모임 승인 요청 목록
 	 * @param member token을 통해 얻은 Member
@@ -387,20 +461,32 @@ public class PartyParticipateService {
 		return new ResponseEntity<>(new ResponseDto(200, "승인요청멤버 조회에 성공했습니다.", approveListDtos), HttpStatus.OK);
 	}
 
-	public ResponseEntity<ResponseDto> getHostPartyList(Member member) {
+	/**
+	 * 회원이 호스트인 파티리스트, 카드 쿼리 한번과 승인된 참여자 전원 IN 쿼리 한번으로 조회한다.
+	 * @param member token을 통해 얻은 Member
+	 * @param page 페이지 번호
+	 * @param size 페이지 크기, 최대 MAX_PAGE_SIZE
+	 * @return 호스트인 파티리스트 출력
+	 */
+	@Transactional(readOnly = true)
+	public ResponseEntity<ResponseDto> getHostPartyList(Member member, int page, int size) {
 		if(member.getAuthority().equals("BLOCK")){
 			return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
 		}
-		List<PartyParticipate> parties = partyParticipateRepository.findByisDeletedFalseAndHostTrueAndMemberOrderByPartyPartyDate(member);
+		List<PartyCardDto> parties = partyParticipateRepository.findHostCardsByMember(member, pageOf(page, size));
+		Map<Long, List<MemberInfoDto>> participateMembers = partyParticipantLoader.loadAcceptedMembers(parties.stream()
+			.map(PartyCardDto::getPartyId)
+			.collect(Collectors.toList()));
 		List<PartyListResponse> partyList = new ArrayList<>();
-		for (PartyParticipate party : parties) {
-			PartyListResponse partyResponse = new PartyListResponse(party.getParty(), 1);
-			List<PartyParticipate> partyParticipates = partyParticipateRepository.findByisDeletedFalseAndAwaitingFalseAndPartyPartyIdOrderByHostDesc(party.getParty().getPartyId());
-			partyResponse.getparticipateMembers(partyParticipates.stream()
-				.map(PartyParticipate::getMember)
-				.collect(Collectors.toList()));
+		for (PartyCardDto party : parties) {
+			PartyListResponse partyResponse = new PartyListResponse(party, 1);
+			partyResponse.setMemberInfo(participateMembers.getOrDefault(party.getPartyId(), Collections.emptyList()));
 			partyList.add(partyResponse);
 		}
 		return new ResponseEntity<>(new ResponseDto(200, "회원이 호스트인 모임 조회에 성공했습니다.", partyList), HttpStatus.OK);
 	}
-}
\ No newline at end of file
+
+	private Pageable pageOf(int page, int size) {
+		return PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+	}
+}
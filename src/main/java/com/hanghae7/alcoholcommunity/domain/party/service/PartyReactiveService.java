@@ -0,0 +1,149 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.hanghae7.alcoholcommunity.domain.common.jwt.JwtUtil;
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.member.repository.MemberRepository;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.MemberInfoDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponse;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartySearchHit;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartySearchIndex;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyCardRepository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * 모임 목록/검색 리액티브 버전
+ * PartyService 와 같은 결과를 내지만, 조회자 확인과 카드 조회, 참여상태 조회와 참여자/거리 계산을 동시에 실행한다.
+ * 블로킹 JPA 호출은 jpaScheduler 에서만 실행해서 요청 스레드를 붙잡지 않는다.
+ *
+ * @fileName      : PartyReactiveService
+ * @author        : mycom
+ * @since         : 2023-06-27
+ */
+@RequiredArgsConstructor
+@Service
+public class PartyReactiveService {
+
+	private static final int PAGE_SIZE = 10;
+
+	private final PartyCardRepository partyCardRepository;
+	private final PartyViewerStateResolver partyViewerStateResolver;
+	private final PartyCardUpdater partyCardUpdater;
+	private final PartySearchIndex partySearchIndex;
+	private final MemberRepository memberRepository;
+	private final JwtUtil jwtUtil;
+	private final Scheduler jpaScheduler;
+
+	/**
+	 * 모임 전체조회(전체/모집중/모집마감), 최신순
+	 * @param accessKey 요청 헤더의 토큰, 비로그인이면 null
+	 * @param recruitmentStatus 0: 전체 리스트 / 1: 모집중 / 2: 모집마감
+	 * @return 반경 안의 모임 리스트
+	 */
+	public Flux<PartyListResponse> findAll(String accessKey, double radius, double longitude, double latitude, int page, int recruitmentStatus) {
+		Boolean status = recruitmentStatus == 0 ? null : recruitmentStatus == 1;
+		Mono<List<PartyCardDto>> parties = blocking(() ->
+			partyCardRepository.findAllWithinRadius(latitude, longitude, radius, status, PageRequest.of(page, PAGE_SIZE)));
+		return buildPartyList(findViewer(accessKey), parties, radius, longitude, latitude);
+	}
+
+	/**
+	 * 모임 검색 조회(전체/모집중/모집마감), 관련도 순
+	 * @param keyword 검색어
+	 * @return 검색어가 포함된 반경 안의 모임 리스트
+	 */
+	public Flux<PartyListResponse> findAllSearch(String accessKey, double radius, double longitude, double latitude, int page, int recruitmentStatus,
+		String keyword) {
+		Boolean status = recruitmentStatus == 0 ? null : recruitmentStatus == 1;
+		Mono<List<PartyCardDto>> parties = Mono.fromCallable(() ->
+				partySearchIndex.search(keyword, latitude, longitude, radius, status, null, page * PAGE_SIZE, PAGE_SIZE).stream()
+					.map(PartySearchHit::getPartyId)
+					.collect(Collectors.toList()))
+			.flatMap(partyIds -> blocking(() -> findCardsByIdInOrder(partyIds)));
+		return buildPartyList(findViewer(accessKey), parties, radius, longitude, latitude);
+	}
+
+	/**
+	 * 조회자와 모임 페이지가 모두 준비되면 참여상태 조회와 참여자/거리 계산을 동시에 실행해서 목록으로 합친다.
+	 */
+	private Flux<PartyListResponse> buildPartyList(Mono<Optional<Member>> viewer, Mono<List<PartyCardDto>> parties,
+		double radius, double longitude, double latitude) {
+		return Mono.zip(viewer, parties).flatMapMany(loaded -> {
+			Optional<Member> member = loaded.getT1();
+			List<PartyCardDto> cards = loaded.getT2();
+			if (member.isPresent() && member.get().getAuthority().equals("BLOCK")) {
+				return Flux.error(new ResponseStatusException(HttpStatus.FORBIDDEN, "정지된 아이디 입니다."));
+			}
+			List<Long> partyIds = cards.stream()
+				.map(PartyCardDto::getPartyId)
+				.collect(Collectors.toList());
+			Mono<Map<Long, Integer>> states = member.isPresent()
+				? blocking(() -> partyViewerStateResolver.resolveStates(member.get(), partyIds))
+				: Mono.just(Collections.emptyMap());
+			Mono<List<List<MemberInfoDto>>> members = Mono.fromCallable(() -> cards.stream()
+				.map(card -> partyCardUpdater.readMembers(card.getMemberAvatars()))
+				.collect(Collectors.toList()));
+			Mono<double[]> distances = Mono.fromCallable(() -> PartyService.distancesFrom(cards, latitude, longitude));
+			return Mono.zip(states, members, distances).flatMapMany(enriched -> Flux.range(0, cards.size())
+				.filter(i -> enriched.getT3()[i] <= radius)
+				.map(i -> {
+					PartyCardDto card = cards.get(i);
+					PartyListResponse partyResponse = new PartyListResponse(card, enriched.getT1().getOrDefault(card.getPartyId(), 0));
+					partyResponse.setMemberInfo(enriched.getT2().get(i));
+					partyResponse.setDistanceCal(enriched.getT3()[i]);
+					return partyResponse;
+				}));
+		});
+	}
+
+	/**
+	 * 요청 헤더의 토큰으로 조회한 회원 확인
+	 * @return 조회한 회원, 비로그인이면 빈 값
+	 */
+	private Mono<Optional<Member>> findViewer(String accessKey) {
+		if (accessKey == null) {
+			return Mono.just(Optional.empty());
+		}
+		return blocking(() -> {
+			String memberUniqueId = jwtUtil.getMemberInfoFromToken(accessKey.substring(7));
+			return Optional.of(memberRepository.findByMemberUniqueId(memberUniqueId).get());
+		});
+	}
+
+	private List<PartyCardDto> findCardsByIdInOrder(List<Long> partyIds) {
+		if (partyIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Map<Long, PartyCardDto> parties = partyCardRepository.findCardsByPartyIdIn(partyIds).stream()
+			.collect(Collectors.toMap(PartyCardDto::getPartyId, Function.identity()));
+		return partyIds.stream()
+			.map(parties::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 블로킹 호출을 jpaScheduler 에서 실행
+	 */
+	private <T> Mono<T> blocking(Callable<T> call) {
+		return Mono.fromCallable(call).subscribeOn(jpaScheduler);
+	}
+}
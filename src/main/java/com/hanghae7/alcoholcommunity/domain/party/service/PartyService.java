@@ -2,29 +2,51 @@ package com.hanghae7.alcoholcommunity.domain.party.service;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.servlet.http.HttpServletRequest;
 
 import com.hanghae7.alcoholcommunity.domain.common.entity.S3Service;
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoBoundingBox;
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoDistance;
 import com.hanghae7.alcoholcommunity.domain.notification.repository.NoticeRepository;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyAutocompleteResponse;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyClusterResponse;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyFacetResponse;
 import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyResponseDto;
 import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
 import com.hanghae7.alcoholcommunity.domain.party.entity.PartyParticipate;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartyAutocompleteIndex;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartyFacetIndex;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartyPreference;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartyRecommendationIndex;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartySearchHit;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartySearchIndex;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartySpatialIndex;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyCardRepository;
 import com.hanghae7.alcoholcommunity.domain.party.repository.PartyParticipateRepository;
 import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.hanghae7.alcoholcommunity.domain.chat.entity.ChatMessage;
 import com.hanghae7.alcoholcommunity.domain.chat.entity.ChatRoom;
@@ -33,6 +55,9 @@ import com.hanghae7.alcoholcommunity.domain.common.jwt.JwtUtil;
 import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
 
 import com.hanghae7.alcoholcommunity.domain.member.repository.MemberRepository;
+import com.hanghae7.alcoholcommunity.domain.party.cache.PartyCache;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyCursor;
 import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyRequestDto;
 import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponse;
 import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponseDto;
@@ -57,15 +82,31 @@ import lombok.RequiredArgsConstructor;
 public class PartyService {
 
 	private final PartyRepository partyRepository;
+	private final PartyCardRepository partyCardRepository;
 	private final PartyParticipateRepository partyParticipateRepository;
+	private final PartyParticipateService partyParticipateService;
+	private final PartyViewerStateResolver partyViewerStateResolver;
 	private final MemberRepository memberRepository;
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatMessageRepository chatMessageRepository;
 	private final NoticeRepository noticeRepository;
 	private final JwtUtil jwtUtil;
+	private final PartySpatialIndex partySpatialIndex;
+	private final PartySearchIndex partySearchIndex;
+	private final PartyAutocompleteIndex partyAutocompleteIndex;
+	private final PartyRecommendationIndex partyRecommendationIndex;
+	private final PartyFacetIndex partyFacetIndex;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PartyCache partyCache;
+	private final PartyListStreamer partyListStreamer;
+	private final PartyListEnricher partyListEnricher;
 
 	private final S3Service s3Service;
 
+	private static final int PAGE_SIZE = 10;
+	private static final int MAX_STREAM_SIZE = 5000;
+	private static final int MAX_RECOMMEND_SIZE = 50;
+
 	/**
 	 * 모임 게시글 등록
 	 * @param partyRequestDto 유저 입력값
@@ -98,6 +139,7 @@ public class PartyService {
 		party.setRecruitmentStatus(true);
 		partyRepository.save(party);
 		partyParticipateRepository.save(partyParticipate);
+		eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.CREATED, party));
 		return new ResponseEntity<>(new ResponseDto(200, "모임 생성에 성공했습니다."), HttpStatus.OK);
 	}
 
@@ -113,62 +155,171 @@ public class PartyService {
 	@Transactional(readOnly = true)
 	public ResponseEntity<ResponseDto> findAll(double radius, double longitude, double latitude, int page, int recruitmentStatus, HttpServletRequest request) {
 
-		String accessToken = request.getHeader("Access_key");
-		String memberUniqueId = null;
-		if (accessToken != null) {
-			memberUniqueId = jwtUtil.getMemberInfoFromToken(accessToken.substring(7));
-			if(memberRepository.findByMemberUniqueId(memberUniqueId).get().getAuthority().equals("BLOCK")){
-				return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
-			}
+		Member viewer = findViewer(request);
+		if(viewer != null && viewer.getAuthority().equals("BLOCK")){
+			return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
 		}
-		List<Party> parties;
-		Pageable pageable = PageRequest.of(page, 10);
-		if(recruitmentStatus == 0){
-			parties = partyRepository.findAllByisDeletedFalseOrderByCreatedAtDesc(pageable);
-		}else if(recruitmentStatus == 1){
-			parties = partyRepository.findAllByisDeletedFalseAndRecruitmentStatusOrderByCreatedAtDesc(true, pageable);
-		} else {
-			parties = partyRepository.findAllByisDeletedFalseAndRecruitmentStatusOrderByCreatedAtDesc(false, pageable);
+		String cacheKey = "latest:" + radius + ":" + longitude + ":" + latitude + ":" + page + ":" + recruitmentStatus;
+		PartyListResponseDto partyListResponseDto = loadPartyList(viewer, cacheKey, member -> {
+			Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+			Boolean status = recruitmentStatus == 0 ? null : recruitmentStatus == 1;
+			List<PartyCardDto> parties = partyCardRepository.findAllWithinRadius(latitude, longitude, radius, status, pageable);
+
+			List<PartyListResponse> partyList = buildPartyList(parties, member, radius, longitude, latitude);
+			return new PartyListResponseDto(partyList, page, partyList.size(), nextCursor(parties));
+		});
+		return new ResponseEntity<>(new ResponseDto(200, "모임 조회에 성공했습니다.", partyListResponseDto), HttpStatus.OK);
+	}
+
+	/**
+	 * 모임 전체조회 커서 방식(전체/모집중/모집마감)
+	 * 이전 페이지 마지막 모임의 (createdAt, partyId) 다음부터 조회하여 스크롤이 깊어져도 조회 비용이 같고,
+	 * 스크롤 중 새 모임이 생겨도 중복/누락이 없다.
+	 *
+	 * @param cursor            이전 응답의 nextCursor
+	 * @param recruitmentStatus 0: 전체 리스트 / 1: 승인완료된 모임리스트 / 2: 승인 대기중인 모임 리스트
+	 * @param request           토큰값을 확인하기 위한 정보
+	 * @return 각 리스트 출력
+	 */
+	@Transactional(readOnly = true)
+	public ResponseEntity<ResponseDto> findAllByCursor(double radius, double longitude, double latitude, String cursor, int recruitmentStatus, HttpServletRequest request) {
+
+		Member viewer = findViewer(request);
+		if(viewer != null && viewer.getAuthority().equals("BLOCK")){
+			return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
 		}
+		PartyCursor partyCursor;
+		try {
+			partyCursor = PartyCursor.decode(cursor);
+		} catch (IllegalArgumentException e) {
+			return new ResponseEntity<>(new ResponseDto(400, "잘못된 커서입니다."), HttpStatus.BAD_REQUEST);
+		}
+		String cacheKey = "cursor:" + radius + ":" + longitude + ":" + latitude + ":" + cursor + ":" + recruitmentStatus;
+		PartyListResponseDto partyListResponseDto = loadPartyList(viewer, cacheKey, member -> {
+			Boolean status = recruitmentStatus == 0 ? null : recruitmentStatus == 1;
+			List<PartyCardDto> parties = partyCardRepository.findAllWithinRadiusAfter(latitude, longitude, radius, status, partyCursor, PAGE_SIZE);
+
+			List<PartyListResponse> partyList = buildPartyList(parties, member, radius, longitude, latitude);
+			return new PartyListResponseDto(partyList, 0, partyList.size(), nextCursor(parties));
+		});
+		return new ResponseEntity<>(new ResponseDto(200, "모임 조회에 성공했습니다.", partyListResponseDto), HttpStatus.OK);
+	}
 
-		List<PartyListResponse> partyList = new ArrayList<>();
-		if(memberUniqueId == null) {
-				for (Party party : parties) {
-					PartyListResponse partyResponse = new PartyListResponse(party);
-					List<PartyParticipate> partyParticipates = partyParticipateRepository.findByisDeletedFalseAndAwaitingFalseAndRejectedFalseAndPartyPartyIdOrderByHostDesc(party.getPartyId());
-					partyResponse.getparticipateMembers(partyParticipates.stream()
-						.map(PartyParticipate::getMember)
-						.collect(Collectors.toList()));
-					double distanceFromCoordinate =distanceCalculator(latitude,longitude,partyResponse.getLatitude(),partyResponse.getLongitude());
-					if(distanceFromCoordinate<= radius){
-						partyResponse.setDistanceCal(distanceFromCoordinate);
-						partyList.add(partyResponse);}
-				}
 
+	/**
+	 * 모임 전체조회 스트리밍(전체/모집중/모집마감)
+	 * 지도/내보내기처럼 많은 모임을 한번에 받는 클라이언트용, 목록을 메모리에 모으지 않고 조회되는 대로 응답에 쓴다.
+	 *
+	 * @param size              최대 개수, MAX_STREAM_SIZE 까지
+	 * @param recruitmentStatus 0: 전체 리스트 / 1: 승인완료된 모임리스트 / 2: 승인 대기중인 모임 리스트
+	 * @param request           토큰값을 확인하기 위한 정보
+	 * @return 최신순 모임 리스트를 쓰는 응답 본문
+	 */
+	public ResponseEntity<StreamingResponseBody> streamAll(double radius, double longitude, double latitude, int size, int recruitmentStatus, HttpServletRequest request) {
+
+		Member viewer = findViewer(request);
+		if(viewer != null && viewer.getAuthority().equals("BLOCK")){
+			return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(partyListStreamer.message(new ResponseDto(400, "정지된 아이디 입니다.")));
 		}
+		Boolean status = recruitmentStatus == 0 ? null : recruitmentStatus == 1;
+		int limit = Math.max(0, Math.min(size, MAX_STREAM_SIZE));
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(partyListStreamer.stream(viewer, radius, longitude, latitude, status, limit));
+	}
 
-		else{
-			for (Party party : parties) {
-				Optional<Member> searchMember = memberRepository.findByMemberUniqueId(memberUniqueId);
-				if(searchMember.isPresent()){
-					int state = getState(party, searchMember.get());
-					PartyListResponse partyResponse = new PartyListResponse(party, state);
-					List<PartyParticipate> partyParticipates = partyParticipateRepository.findByisDeletedFalseAndAwaitingFalseAndPartyPartyIdOrderByHostDesc(party.getPartyId());
-					partyResponse.getparticipateMembers(partyParticipates.stream()
-						.map(PartyParticipate::getMember)
-						.collect(Collectors.toList()));
-					double distanceFromCoordinate =distanceCalculator(latitude,longitude,partyResponse.getLatitude(),partyResponse.getLongitude());
-					if(distanceFromCoordinate<= radius){
-						partyResponse.setDistanceCal(distanceFromCoordinate);
-						partyList.add(partyResponse);}
-				}
-			}
+	/**
+	 * 모임 가까운 순 조회(전체/모집중/모집마감)
+	 * 공간 인덱스에서 가까운 모임 Id를 찾고 해당 모임만 DB에서 조회
+	 *
+	 * @param page              요청한 페이지 번호
+	 * @param recruitmentStatus 0: 전체 리스트 / 1: 승인완료된 모임리스트 / 2: 승인 대기중인 모임 리스트
+	 * @param request           토큰값을 확인하기 위한 정보
+	 * @return 가까운 순 리스트 출력
+	 */
+	@Transactional(readOnly = true)
+	public ResponseEntity<ResponseDto> findAllNearest(double radius, double longitude, double latitude, int page, int recruitmentStatus, HttpServletRequest request) {
 
+		Member viewer = findViewer(request);
+		if(viewer != null && viewer.getAuthority().equals("BLOCK")){
+			return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
 		}
+		String cacheKey = "distance:" + radius + ":" + longitude + ":" + latitude + ":" + page + ":" + recruitmentStatus;
+		PartyListResponseDto partyListResponseDto = loadPartyList(viewer, cacheKey, member -> {
+			Boolean status = recruitmentStatus == 0 ? null : recruitmentStatus == 1;
+			List<Long> partyIds = partySpatialIndex.findNearest(latitude, longitude, radius, status, page * PAGE_SIZE, PAGE_SIZE);
+			List<PartyCardDto> parties = findCardsByIdInOrder(partyIds);
+
+			List<PartyListResponse> partyList = buildPartyList(parties, member, radius, longitude, latitude);
+			return new PartyListResponseDto(partyList, page, partyList.size());
+		});
+		return new ResponseEntity<>(new ResponseDto(200, "모임 조회에 성공했습니다.", partyListResponseDto), HttpStatus.OK);
+	}
+
+	/**
+	 * 추천 모임 조회
+	 * 추천 인덱스에서 반경 안의 모집중인 모임을 거리, 남은 시간, 모집률, 참여했던 모임의 카테고리/컨셉, 최신성으로 점수를 매겨
+	 * 상위 size 개만 찾고 해당 모임만 DB에서 조회한다. 이미 참여한 모임은 제외한다.
+	 *
+	 * @param size              조회할 개수, MAX_RECOMMEND_SIZE 까지
+	 * @param request           토큰값을 확인하기 위한 정보
+	 * @return 추천 점수 순 리스트 출력
+	 */
+	@Transactional(readOnly = true)
+	public ResponseEntity<ResponseDto> findRecommended(double radius, double longitude, double latitude, int size, HttpServletRequest request) {
 
-		return new ResponseEntity<>(new ResponseDto(200, "모임 조회에 성공했습니다.", new PartyListResponseDto(partyList, page, partyList.size())), HttpStatus.OK);
+		Member viewer = findViewer(request);
+		if(viewer != null && viewer.getAuthority().equals("BLOCK")){
+			return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
+		}
+		PartyPreference preference = viewer == null
+			? PartyPreference.NONE
+			: new PartyPreference(partyParticipateRepository.findHistoryByMember(viewer));
+		int limit = Math.max(0, Math.min(size, MAX_RECOMMEND_SIZE));
+		List<Long> partyIds = partyRecommendationIndex.recommend(latitude, longitude, radius, preference, LocalDateTime.now(), limit);
+		List<PartyCardDto> parties = findCardsByIdInOrder(partyIds);
+
+		List<PartyListResponse> partyList = buildPartyList(parties, viewer, radius, longitude, latitude);
+		PartyListResponseDto partyListResponseDto = new PartyListResponseDto(partyList, 0, partyList.size());
+		return new ResponseEntity<>(new ResponseDto(200, "추천 모임 조회에 성공했습니다.", partyListResponseDto), HttpStatus.OK);
 	}
 
+	/**
+	 * 필터별 모임 수 조회
+	 * 모임이 바뀔 때마다 갱신되는 메모리 카운트에서 조회하고, DB를 GROUP BY 하지 않는다.
+	 *
+	 * @return 지역/카테고리/컨셉/모집 상태별 모임 수
+	 */
+	public ResponseEntity<ResponseDto> findFacets() {
+		PartyFacetResponse facets = partyFacetIndex.facets();
+		return new ResponseEntity<>(new ResponseDto(200, "모임 필터 조회에 성공했습니다.", facets), HttpStatus.OK);
+	}
+
+	/**
+	 * 지도 클러스터 조회
+	 * 지도 범위 안의 모임을 카드 대신 GeoHash 셀 단위 마커(평균 좌표, 모임 수, 모임 Id 일부)로 묶어서 내려준다.
+	 * DB를 조회하지 않고 공간 인덱스에서 계산한다.
+	 *
+	 * @param minLatitude       지도 남쪽 위도
+	 * @param maxLatitude       지도 북쪽 위도
+	 * @param minLongitude      지도 서쪽 경도, 동쪽 경도보다 크면 날짜변경선을 넘는 범위
+	 * @param maxLongitude      지도 동쪽 경도
+	 * @param zoom              지도 확대 수준(0~21)
+	 * @param recruitmentStatus 0: 전체 / 1: 모집중 / 2: 모집마감
+	 * @return 클러스터 리스트
+	 */
+	public ResponseEntity<ResponseDto> findClusters(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude,
+		int zoom, int recruitmentStatus) {
+		if (minLatitude > maxLatitude) {
+			return new ResponseEntity<>(new ResponseDto(400, "잘못된 지도 범위입니다."), HttpStatus.BAD_REQUEST);
+		}
+		Boolean status = recruitmentStatus == 0 ? null : recruitmentStatus == 1;
+		GeoBoundingBox box = GeoBoundingBox.of(minLatitude, maxLatitude, minLongitude, maxLongitude);
+		List<PartyClusterResponse> clusters = partySpatialIndex.cluster(box, zoom, status);
+		return new ResponseEntity<>(new ResponseDto(200, "모임 클러스터 조회에 성공했습니다.", clusters), HttpStatus.OK);
+	}
 
 	/**
 	 * 모임 상세조회
@@ -182,17 +333,22 @@ public class PartyService {
 		if(member.getAuthority().equals("BLOCK")){
 			return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
 		}
-		Party party = new Party();
-		try {
-			party = partyRepository.findById(partyId).orElseThrow(
-				() -> new IllegalArgumentException("해당 모임이 존재하지 않습니다."));
-		} catch (IllegalArgumentException e) {
+		// 참여상태를 뺀 상세 정보는 모든 회원에게 같으므로 캐시하고, 참여상태만 회원별로 조회
+		PartyResponseDto cached = partyCache.getPartyDetail(partyId, () -> {
+			Optional<Party> party = partyRepository.findById(partyId);
+			if (party.isEmpty()) {
+				return null;
+			}
+			List<PartyParticipate> partyMember = partyParticipateRepository.findByisDeletedFalseAndAwaitingFalseAndPartyPartyIdOrderByHostDesc(partyId);
+			PartyResponseDto loaded = new PartyResponseDto(party.get(), 0);
+			loaded.getparticipateMembers(partyMember);
+			return loaded;
+		});
+		if (cached == null) {
 			return new ResponseEntity<>(new ResponseDto(400, "해당 모임이 존재하지 않습니다."), HttpStatus.OK);
 		}
-		List<PartyParticipate> partyMember = partyParticipateRepository.findByisDeletedFalseAndAwaitingFalseAndPartyPartyIdOrderByHostDesc(partyId);
-		int state = getState(party, member);
-		PartyResponseDto partyResponseDto = new PartyResponseDto(party,state);
-		partyResponseDto.getparticipateMembers(partyMember);
+		int state = partyViewerStateResolver.resolveStates(member, Collections.singletonList(partyId)).getOrDefault(partyId, 0);
+		PartyResponseDto partyResponseDto = new PartyResponseDto(cached, state);
 		return new ResponseEntity<>(new ResponseDto(200, "모임 상세 조회에 성공하였습니다.", partyResponseDto), HttpStatus.OK);
 	}
 
@@ -237,7 +393,15 @@ public class PartyService {
 				party.setImageUrl(s3Service.upload(image));
 			}
 
+			int previousTotalCount = party.getTotalCount();
 			party.updateParty(partyRequestDto);
+			if (party.getTotalCount() > previousTotalCount) {
+				// 늘어난 정원만큼 대기열 순번대로 자동 승인, 바뀐 정원은 자리 확보 쿼리가 실행되기 전에 flush 되어 DB에 먼저 반영된다.
+				// 승인 쿼리로 영속성 컨텍스트가 비워졌으므로 바뀐 인원수와 모집 상태를 다시 조회
+				partyParticipateService.fillOpenSeats(partyId);
+				party = partyRepository.findById(partyId).get();
+			}
+			eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.UPDATED, party));
 			/*PartyParticipate partyParticipate = partyParticipateRepository.findByisDeletedFalseAndHostTrueAndParty(party);
 			chatRoomRepository.updateChatRoomTitle(partyParticipate.getChatRoom().getChatRoomUniqueId(), partyRequestDto.getTitle());*/
 
@@ -280,37 +444,17 @@ public class PartyService {
 			chatRoomRepository.softDeleteChatRoom(partyParticipate.getChatRoom().getChatRoomId());
 			partyParticipateRepository.softDeletepartyId(party.getPartyId());
 			noticeRepository.deleteAllByPartyId(partyId);
+			eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.DELETED, party));
 		}
 		return new ResponseEntity<>(new ResponseDto(200, "모임을 삭제하였습니다."), HttpStatus.OK);
 	}
 
-	/**
-	 *  ???????????????????????????
-	 * @param party partyId
-	 * @param member FE에서 매개변수로 전달한 Party의 Id
-	 * @return ??????????
-	 */
-	public int getState(Party party, Member member) {
-		Optional<PartyParticipate> participate = partyParticipateRepository.findByisDeletedFalseAndPartyAndMember(party, member);
-		if (participate.isPresent()) {
-			if (participate.get().isRejected()) {
-				return 3;
-			} else if (participate.get().isAwaiting()) {
-				return 2;
-			} else {
-				return 1;
-			}
-		} else {
-			return 0;
-		}
-	}
-
 	@Scheduled(fixedRate  = 600000)
 	@Transactional
 	public void deleteTimeoverParty(){
 		LocalDateTime timenow = LocalDateTime.now().plusHours(9);
 		LocalDateTime result = timenow.minusHours(4);
-		List<Party> partyList = partyRepository.findAllByPartyDateBefore(result);
+		List<Party> partyList = partyRepository.findAllByPartyDateBeforeAndIsDeletedFalse(result);
 		for (Party party : partyList) {
 			PartyParticipate partyParticipate = partyParticipateRepository.findByisDeletedFalseAndHostTrueAndParty(party);
 			partyRepository.softDeleteParty(party.getPartyId());
@@ -319,26 +463,136 @@ public class PartyService {
 				chatRoomRepository.softDeleteChatRoom(partyParticipate.getChatRoom().getChatRoomId());
 			}
 			partyParticipateRepository.softDeletepartyId(party.getPartyId());
+			eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.DELETED, party));
 		}
 	}
 
-	public double distanceCalculator(double latitude, double longitude, double latitude2, double longitude2){
-		final int R = 6371;
-		double dLat = Math.toRadians(latitude2 - latitude);
-		double dLon = Math.toRadians(longitude2- longitude);
-		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-			+ Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(latitude2))
-			* Math.sin(dLon / 2) * Math.sin(dLon / 2);
-		double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+	/**
+	 * 요청 헤더의 토큰으로 조회한 회원 확인
+	 * @param request 토큰값을 확인하기 위한 정보
+	 * @return 조회한 회원, 비로그인이면 null
+	 */
+	private Member findViewer(HttpServletRequest request) {
+		String accessToken = request.getHeader("Access_key");
+		if (accessToken == null) {
+			return null;
+		}
+		String memberUniqueId = jwtUtil.getMemberInfoFromToken(accessToken.substring(7));
+		return memberRepository.findByMemberUniqueId(memberUniqueId).get();
+	}
+
+	/**
+	 * 모임 목록 조회, 비로그인 조회는 모든 사용자에게 같은 결과이므로 캐시에서 조회
+	 * @param viewer 조회한 회원, 비로그인이면 null
+	 * @param cacheKey 비로그인 조회 캐시 키
+	 * @param loader 조회한 회원으로 목록을 만드는 함수
+	 * @return 모임 목록
+	 */
+	private PartyListResponseDto loadPartyList(Member viewer, String cacheKey, Function<Member, PartyListResponseDto> loader) {
+		if (viewer != null) {
+			return loader.apply(viewer);
+		}
+		return partyCache.getPartyList(cacheKey, () -> loader.apply(null));
+	}
+
+	/**
+	 * 인덱스에서 찾은 모임 Id 순서대로 모임 카드 조회
+	 * @param partyIds 모임 Id 리스트
+	 * @return partyIds 순서로 정렬된 모임 카드 리스트, 그 사이 삭제된 모임은 제외
+	 */
+	private List<PartyCardDto> findCardsByIdInOrder(List<Long> partyIds) {
+		if (partyIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Map<Long, PartyCardDto> parties = partyCardRepository.findCardsByPartyIdIn(partyIds).stream()
+			.collect(Collectors.toMap(PartyCardDto::getPartyId, Function.identity()));
+		return partyIds.stream()
+			.map(parties::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 다음 페이지 조회용 커서 생성
+	 * @param parties 조회된 모임 페이지, 반경 필터링 전 목록
+	 * @return 마지막 모임의 (createdAt, partyId) 커서, 페이지가 다 차지 않았으면 null
+	 */
+	private String nextCursor(List<PartyCardDto> parties) {
+		if (parties.size() < PAGE_SIZE) {
+			return null;
+		}
+		PartyCardDto last = parties.get(parties.size() - 1);
+		return new PartyCursor(last.getCreatedAt(), last.getPartyId()).encode();
+	}
+
+	/**
+	 * 검색 결과 다음 페이지 조회용 커서 생성
+	 * @param hits 검색 인덱스 결과
+	 * @return 마지막 결과의 (관련도, partyDate, partyId) 커서, 페이지가 다 차지 않았으면 null
+	 */
+	private String nextSearchCursor(List<PartySearchHit> hits) {
+		if (hits.size() < PAGE_SIZE) {
+			return null;
+		}
+		PartySearchHit last = hits.get(hits.size() - 1);
+		return new PartyCursor(last.getScore(), last.getPartyDate(), last.getPartyId()).encode();
+	}
+
+	/**
+	 * 조회된 모임 페이지를 목록 응답으로 변환
+	 * 참여자 프로필은 카드에 저장된 것을 쓰고, 조회자의 참여상태는 partyListEnricher 가 다른 스레드에서 페이지 단위로 조회한다.
+	 * @param parties 조회된 모임 페이지
+	 * @param viewer 조회한 회원, 비로그인이면 null
+	 * @return 반경 안에 있는 모임 리스트
+	 */
+	private List<PartyListResponse> buildPartyList(List<PartyCardDto> parties, Member viewer, double radius, double longitude, double latitude) {
+		return partyListEnricher.enrich(parties, viewer, radius, longitude, latitude);
+	}
+
+	/**
+	 * 기준 좌표에서 페이지의 모임들까지 거리를 한번에 계산
+	 * 모임마다 저장된 라디안/코사인 값을 써서 후보마다 toRadians, cos(위도)를 다시 계산하지 않는다.
+	 * @param parties 조회된 모임 페이지
+	 * @return 모임 순서대로 거리(km), 좌표가 없는 모임은 NaN
+	 */
+	static double[] distancesFrom(List<PartyCardDto> parties, double latitude, double longitude) {
+		int size = parties.size();
+		double[] latitudeRads = new double[size];
+		double[] longitudeRads = new double[size];
+		double[] cosLatitudes = new double[size];
+		for (int i = 0; i < size; i++) {
+			PartyCardDto party = parties.get(i);
+			boolean located = party.getLatitudeRad() != null && party.getLongitudeRad() != null && party.getCosLatitude() != null;
+			latitudeRads[i] = located ? party.getLatitudeRad() : Double.NaN;
+			longitudeRads[i] = located ? party.getLongitudeRad() : Double.NaN;
+			cosLatitudes[i] = located ? party.getCosLatitude() : Double.NaN;
+		}
+		double[] distances = new double[size];
+		GeoDistance.haversine(Math.toRadians(latitude), Math.toRadians(longitude), latitudeRads, longitudeRads, cosLatitudes, distances);
+		return distances;
+	}
 
-		double distance = R * c;
+	/**
+	 * 거리 계산용 컬럼이 추가되기 전에 생성된 모임의 위치 값 채우기
+	 * 모임 카드에도 반영되도록 변경 이벤트를 발행한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void fillMissingLocation() {
+		for (Party party : partyRepository.findAllByCosLatitudeIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull()) {
+			party.updateLocation();
+			eventPublisher.publishEvent(new PartyChangedEvent(PartyChangedEvent.Type.UPDATED, party));
+		}
+	}
 
-		return distance;
+	public double distanceCalculator(double latitude, double longitude, double latitude2, double longitude2){
+		return GeoDistance.haversine(latitude, longitude, latitude2, longitude2);
 	}
 
 	/**
 	 * ???????????????????????????
 	 * 모임 검색 조회(전체/모집중/모집마감)
+	 * 검색 인덱스에서 관련도 순으로 모임 Id를 찾고 해당 모임만 DB에서 조회
 	 *
 	 * @param page              요청한 페이지 번호
 	 * @param recruitmentStatus 0: 전체 리스트 / 1: 승인완료된 모임리스트 / 2: 승인 대기중인 모임 리스트
@@ -350,62 +604,64 @@ public class PartyService {
 	public ResponseEntity<ResponseDto> findAllSearch(double radius, double longitude, double latitude, int page, int recruitmentStatus, HttpServletRequest request,
 		String keyword) {
 
-		String accessToken = request.getHeader("Access_key");
-		String memberUniqueId = null;
-		if (accessToken != null) {
-			memberUniqueId = jwtUtil.getMemberInfoFromToken(accessToken.substring(7));
-			if(memberRepository.findByMemberUniqueId(memberUniqueId).get().getAuthority().equals("BLOCK")){
-					return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
-			}
-		}
-
-		Pageable pageable = PageRequest.of(page, 10);
-		List<Party> parties;
-		if(recruitmentStatus == 0){
-			parties = partyRepository.findAllPartyByKeyword(pageable, keyword);
-		}else if(recruitmentStatus == 1){
-			parties = partyRepository.findAllPartyByKeywordRecruitmentStatus(true, pageable, keyword);
-		} else {
-			parties = partyRepository.findAllPartyByKeywordRecruitmentStatus(false, pageable, keyword);
+		Member viewer = findViewer(request);
+		if(viewer != null && viewer.getAuthority().equals("BLOCK")){
+			return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
 		}
 
-		List<PartyListResponse> partyList = new ArrayList<>();
-		if(memberUniqueId == null) {
-
-			for (Party party : parties) {
-				PartyListResponse partyResponse = new PartyListResponse(party);
-				List<PartyParticipate> partyParticipates = partyParticipateRepository.findByisDeletedFalseAndAwaitingFalseAndPartyPartyIdOrderByHostDesc(party.getPartyId());
-				partyResponse.getparticipateMembers(partyParticipates.stream()
-					.map(PartyParticipate::getMember)
-					.collect(Collectors.toList()));
-				double distanceFromCoordinate =distanceCalculator(latitude,longitude,partyResponse.getLatitude(),partyResponse.getLongitude());
-				if(distanceFromCoordinate<= radius){
-					partyResponse.setDistanceCal(distanceFromCoordinate);
-					partyList.add(partyResponse);}
-			}
+		Boolean status = recruitmentStatus == 0 ? null : recruitmentStatus == 1;
+		List<PartySearchHit> hits = partySearchIndex.search(keyword, latitude, longitude, radius, status, null, page * PAGE_SIZE, PAGE_SIZE);
+		List<PartyCardDto> parties = findCardsByIdInOrder(hits.stream().map(PartySearchHit::getPartyId).collect(Collectors.toList()));
 
-		}
+		List<PartyListResponse> partyList = buildPartyList(parties, viewer, radius, longitude, latitude);
+		String nextCursor = nextSearchCursor(hits);
+		return new ResponseEntity<>(new ResponseDto(200, "모임 조회에 성공했습니다.", new PartyListResponseDto(partyList, page, partyList.size(), nextCursor)), HttpStatus.OK);
+	}
 
-		else{
-			for (Party party : parties) {
-				Optional<Member> searchMember = memberRepository.findByMemberUniqueId(memberUniqueId);
-				if(searchMember.isPresent()){
-					int state = getState(party, searchMember.get());
-					PartyListResponse partyResponse = new PartyListResponse(party, state);
-					List<PartyParticipate> partyParticipates = partyParticipateRepository.findByisDeletedFalseAndAwaitingFalseAndPartyPartyIdOrderByHostDesc(party.getPartyId());
-					partyResponse.getparticipateMembers(partyParticipates.stream()
-						.map(PartyParticipate::getMember)
-						.collect(Collectors.toList()));
-					double distanceFromCoordinate =distanceCalculator(latitude,longitude,partyResponse.getLatitude(),partyResponse.getLongitude());
-					if(distanceFromCoordinate<= radius){
-						partyResponse.setDistanceCal(distanceFromCoordinate);
-						partyList.add(partyResponse);}
-				}
-			}
+	/**
+	 * 모임 검색 조회 커서 방식(전체/모집중/모집마감)
+	 * 이전 페이지 마지막 결과의 (관련도, partyDate, partyId) 다음부터 조회
+	 *
+	 * @param cursor            이전 응답의 nextCursor
+	 * @param recruitmentStatus 0: 전체 리스트 / 1: 승인완료된 모임리스트 / 2: 승인 대기중인 모임 리스트
+	 * @param request           토큰값을 확인하기 위한 정보
+	 * @param keyword			검색어
+	 * @return 각 리스트 출력
+	 */
+	@Transactional(readOnly = true)
+	public ResponseEntity<ResponseDto> findAllSearchByCursor(double radius, double longitude, double latitude, String cursor, int recruitmentStatus, HttpServletRequest request,
+		String keyword) {
 
+		Member viewer = findViewer(request);
+		if(viewer != null && viewer.getAuthority().equals("BLOCK")){
+			return new ResponseEntity<>(new ResponseDto(400, "정지된 아이디 입니다."), HttpStatus.OK);
 		}
+		PartyCursor partyCursor;
+		try {
+			partyCursor = PartyCursor.decode(cursor);
+		} catch (IllegalArgumentException e) {
+			return new ResponseEntity<>(new ResponseDto(400, "잘못된 커서입니다."), HttpStatus.BAD_REQUEST);
+		}
+		Boolean status = recruitmentStatus == 0 ? null : recruitmentStatus == 1;
+		List<PartySearchHit> hits = partySearchIndex.search(keyword, latitude, longitude, radius, status, partyCursor, 0, PAGE_SIZE);
+		List<PartyCardDto> parties = findCardsByIdInOrder(hits.stream().map(PartySearchHit::getPartyId).collect(Collectors.toList()));
+
+		List<PartyListResponse> partyList = buildPartyList(parties, viewer, radius, longitude, latitude);
+		String nextCursor = nextSearchCursor(hits);
+		return new ResponseEntity<>(new ResponseDto(200, "모임 조회에 성공했습니다.", new PartyListResponseDto(partyList, 0, partyList.size(), nextCursor)), HttpStatus.OK);
+	}
 
-		return new ResponseEntity<>(new ResponseDto(200, "모임 조회에 성공했습니다.", new PartyListResponseDto(partyList, page, partyList.size())), HttpStatus.OK);
+	/**
+	 * 검색어 자동완성
+	 * DB를 조회하지 않고 자동완성 인덱스에서 역 이름/장소 이름/지역 이름을 찾는다.
+	 *
+	 * @param keyword 입력한 글자
+	 * @param size    최대 개수
+	 * @return 모임 수가 많은 순으로 정렬된 이름 리스트
+	 */
+	public ResponseEntity<ResponseDto> autocomplete(String keyword, int size) {
+		List<PartyAutocompleteResponse> suggestions = partyAutocompleteIndex.suggest(keyword, Math.min(size, PAGE_SIZE));
+		return new ResponseEntity<>(new ResponseDto(200, "자동완성 조회에 성공했습니다.", suggestions), HttpStatus.OK);
 	}
 
 	@Transactional(readOnly = true)
@@ -0,0 +1,46 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.ParticipateStateDto;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyParticipateRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모임 목록을 조회한 회원의 모임별 참여상태를 한번에 계산
+ * 0: 미참여 / 1: 참여 / 2: 승인 대기 / 3: 거절 / 4: 대기열
+ *
+ * @fileName      : PartyViewerStateResolver
+ * @author        : mycom
+ * @since         : 2023-06-20
+ */
+@RequiredArgsConstructor
+@Component
+public class PartyViewerStateResolver {
+
+	private final PartyParticipateRepository partyParticipateRepository;
+
+	/**
+	 * 페이지에 포함된 모임들에 대한 조회자의 참여상태 조회
+	 * @param viewer 조회한 회원
+	 * @param partyIds 조회된 모임 Id 목록
+	 * @return partyId 별 참여상태, 참여정보가 없는 모임은 포함되지 않음
+	 */
+	public Map<Long, Integer> resolveStates(Member viewer, Collection<Long> partyIds) {
+		if (partyIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<Long, Integer> states = new HashMap<>();
+		for (ParticipateStateDto participate : partyParticipateRepository.findViewerStatesByPartyIds(viewer, partyIds)) {
+			states.put(participate.getPartyId(), participate.toState());
+		}
+		return states;
+	}
+}
@@ -0,0 +1,80 @@
+package com.hanghae7.alcoholcommunity.domain.common.geo;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoDistanceTest {
+
+	@DisplayName("강남역에서 서울역까지 거리는 약 8km 이다.")
+	@Test
+	void haversine() {
+		double distance = GeoDistance.haversine(37.497967, 127.027616, 37.554648, 126.970702);
+
+		assertEquals(8.06, distance, 0.01);
+	}
+
+	@DisplayName("저장된 라디안/코사인 값으로 한번에 계산한 거리는 좌표마다 계산한 거리와 같다.")
+	@Test
+	void haversine_batch() {
+		Random random = new Random(7);
+		int size = 500;
+		double[] latitudes = new double[size];
+		double[] longitudes = new double[size];
+		double[] latitudeRads = new double[size];
+		double[] longitudeRads = new double[size];
+		double[] cosLatitudes = new double[size];
+		for (int i = 0; i < size; i++) {
+			latitudes[i] = 37.5 + (random.nextDouble() - 0.5);
+			longitudes[i] = 127.0 + (random.nextDouble() - 0.5);
+			latitudeRads[i] = Math.toRadians(latitudes[i]);
+			longitudeRads[i] = Math.toRadians(longitudes[i]);
+			cosLatitudes[i] = Math.cos(latitudeRads[i]);
+		}
+		double[] distances = new double[size];
+
+		GeoDistance.haversine(Math.toRadians(37.5), Math.toRadians(127.0), latitudeRads, longitudeRads, cosLatitudes, distances);
+
+		for (int i = 0; i < size; i++) {
+			assertEquals(GeoDistance.haversine(37.5, 127.0, latitudes[i], longitudes[i]), distances[i], 1e-9);
+		}
+	}
+
+	@DisplayName("좌표가 없는 후보의 거리는 NaN 이라 반경 조건에 걸리지 않는다.")
+	@Test
+	void haversine_batch_missing() {
+		double[] distances = new double[1];
+
+		GeoDistance.haversine(0.6, 2.2, new double[] {Double.NaN}, new double[] {Double.NaN}, new double[] {Double.NaN}, distances);
+
+		assertThat(distances[0] <= 10).isFalse();
+	}
+
+	@DisplayName("반경 안의 좌표는 모두 반경을 감싸는 사각형 안에 있다.")
+	@Test
+	void boundingBox() {
+		Random random = new Random(11);
+		GeoBoundingBox box = GeoBoundingBox.around(37.497967, 127.027616, 5);
+		for (int i = 0; i < 2000; i++) {
+			double latitude = 37.497967 + (random.nextDouble() - 0.5) * 0.2;
+			double longitude = 127.027616 + (random.nextDouble() - 0.5) * 0.2;
+			if (GeoDistance.haversine(37.497967, 127.027616, latitude, longitude) <= 5) {
+				assertThat(box.contains(latitude, longitude)).isTrue();
+			}
+		}
+	}
+
+	@DisplayName("극점을 포함하는 반경은 경도 전체를 범위로 한다.")
+	@Test
+	void boundingBox_pole() {
+		GeoBoundingBox box = GeoBoundingBox.around(89.9, 0, 50);
+
+		assertEquals(-180, box.getMinLongitude());
+		assertEquals(180, box.getMaxLongitude());
+		assertEquals(90, box.getMaxLatitude());
+	}
+}
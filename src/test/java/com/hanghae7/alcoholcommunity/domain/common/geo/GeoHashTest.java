@@ -0,0 +1,16 @@
+package com.hanghae7.alcoholcommunity.domain.common.geo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+	@DisplayName("좌표를 GeoHash로 변환할 수 있다.")
+	@Test
+	void encode() {
+		assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+		assertEquals("wydm6d6", GeoHash.encode(37.497967, 127.027616, GeoHash.MAX_PRECISION));
+	}
+}
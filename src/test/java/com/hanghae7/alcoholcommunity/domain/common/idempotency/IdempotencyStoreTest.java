@@ -0,0 +1,102 @@
+package com.hanghae7.alcoholcommunity.domain.common.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanghae7.alcoholcommunity.domain.common.ResponseDto;
+
+class IdempotencyStoreTest {
+
+	private RedisTemplate<String, String> redisTemplate;
+	private ValueOperations<String, String> valueOperations;
+	private IdempotencyStore idempotencyStore;
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private ResponseEntity<ResponseDto> join() {
+		calls.incrementAndGet();
+		return new ResponseEntity<>(new ResponseDto(200, "모임 신청에 성공했습니다."), HttpStatus.OK);
+	}
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		idempotencyStore = new IdempotencyStore(redisTemplate, new ObjectMapper());
+	}
+
+	@DisplayName("처음 들어온 키는 실행하고 결과를 저장한다.")
+	@Test
+	void execute_first() {
+		when(valueOperations.setIfAbsent(eq("idempotency:join:member:1:key"), eq(""), any(Duration.class))).thenReturn(true);
+
+		ResponseEntity<ResponseDto> response = idempotencyStore.execute("join:member:1", "key", this::join);
+
+		assertThat(response.getBody().getMsg()).isEqualTo("모임 신청에 성공했습니다.");
+		assertThat(calls.get()).isEqualTo(1);
+		verify(valueOperations).set(eq("idempotency:join:member:1:key"), contains("모임 신청에 성공했습니다."), eq(Duration.ofHours(24)));
+	}
+
+	@DisplayName("이미 처리된 키는 다시 실행하지 않고 저장된 결과를 돌려준다.")
+	@Test
+	void execute_replay() {
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+		when(valueOperations.get("idempotency:join:member:1:key")).thenReturn("{\"status\":200,\"msg\":\"모임 신청에 성공했습니다.\"}");
+
+		ResponseEntity<ResponseDto> response = idempotencyStore.execute("join:member:1", "key", this::join);
+
+		assertThat(calls.get()).isZero();
+		assertThat(response.getBody().getMsg()).isEqualTo("모임 신청에 성공했습니다.");
+		assertThat(response.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER)).isEqualTo("true");
+	}
+
+	@DisplayName("앞선 요청이 처리중이면 실행하지 않고 다시 시도하도록 안내한다.")
+	@Test
+	void execute_inProgress() {
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+		when(valueOperations.get("idempotency:join:member:1:key")).thenReturn("");
+
+		ResponseEntity<ResponseDto> response = idempotencyStore.execute("join:member:1", "key", this::join);
+
+		assertThat(calls.get()).isZero();
+		assertThat(response.getBody().getStatus()).isEqualTo(409);
+	}
+
+	@DisplayName("실행 중 예외가 나면 선점을 풀어서 다시 시도할 수 있게 한다.")
+	@Test
+	void execute_failure() {
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+		assertThatThrownBy(() -> idempotencyStore.execute("join:member:1", "key", () -> {
+			throw new IllegalStateException("fail");
+		})).isInstanceOf(IllegalStateException.class);
+		verify(redisTemplate).delete("idempotency:join:member:1:key");
+	}
+
+	@DisplayName("키가 없거나 Redis 를 쓸 수 없으면 매번 실행한다.")
+	@Test
+	void execute_withoutStore() {
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+			.thenThrow(new RedisConnectionFailureException("down"));
+
+		idempotencyStore.execute("join:member:1", null, this::join);
+		idempotencyStore.execute("join:member:1", "key", this::join);
+
+		assertThat(calls.get()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,51 @@
+package com.hanghae7.alcoholcommunity.domain.notification.service;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanghae7.alcoholcommunity.domain.notification.sse.SseSend;
+
+class NotificationDispatcherTest {
+
+    private NotificationOutboxService notificationOutboxService;
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxService = mock(NotificationOutboxService.class);
+        notificationDispatcher = new NotificationDispatcher(notificationOutboxService, new ObjectMapper(), mock(SseSend.class));
+    }
+
+    @DisplayName("한 묶음 저장에 실패하면 한 건씩 다시 꺼내고, 실패한 알림의 실패 횟수를 올린다.")
+    @Test
+    void dispatch_batchFailure() {
+        when(notificationOutboxService.drain(NotificationDispatcher.BATCH_SIZE))
+            .thenThrow(new DataIntegrityViolationException("notice"));
+        when(notificationOutboxService.drain(1))
+            .thenReturn(List.of(new NotificationOutboxService.Delivery("receiver", null)))
+            .thenThrow(new DataIntegrityViolationException("notice"));
+
+        notificationDispatcher.dispatch();
+
+        verify(notificationOutboxService, times(2)).drain(1);
+        verify(notificationOutboxService).recordFailure();
+    }
+
+    @DisplayName("아웃박스가 비어 있으면 실패 횟수를 올리지 않는다.")
+    @Test
+    void dispatch_empty() {
+        when(notificationOutboxService.drain(NotificationDispatcher.BATCH_SIZE)).thenReturn(List.of());
+
+        notificationDispatcher.dispatch();
+
+        verify(notificationOutboxService, never()).drain(1);
+        verify(notificationOutboxService, never()).recordFailure();
+    }
+}
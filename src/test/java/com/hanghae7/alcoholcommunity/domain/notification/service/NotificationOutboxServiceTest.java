@@ -0,0 +1,92 @@
+package com.hanghae7.alcoholcommunity.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.notification.dto.NoticeParticipantResponseDto;
+import com.hanghae7.alcoholcommunity.domain.notification.dto.NoticeResponseDto;
+import com.hanghae7.alcoholcommunity.domain.notification.entity.Notice;
+import com.hanghae7.alcoholcommunity.domain.notification.entity.NotificationOutbox;
+import com.hanghae7.alcoholcommunity.domain.notification.repository.NoticeRepository;
+import com.hanghae7.alcoholcommunity.domain.notification.repository.NotificationOutboxRepository;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+
+class NotificationOutboxServiceTest {
+
+    private NotificationOutboxRepository notificationOutboxRepository;
+    private NoticeRepository noticeRepository;
+    private NotificationOutboxService notificationOutboxService;
+
+    private Member member(long memberId, String memberUniqueId) {
+        Member member = mock(Member.class);
+        when(member.getMemberId()).thenReturn(memberId);
+        when(member.getMemberUniqueId()).thenReturn(memberUniqueId);
+        when(member.getMemberName()).thenReturn(memberUniqueId);
+        return member;
+    }
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxRepository = mock(NotificationOutboxRepository.class);
+        noticeRepository = mock(NoticeRepository.class);
+        notificationOutboxService = new NotificationOutboxService(notificationOutboxRepository, noticeRepository);
+    }
+
+    @DisplayName("꺼낸 알림은 Notice 로 한번에 저장하고 아웃박스에서 지운다.")
+    @Test
+    void drain() {
+        Party party = Party.builder().partyId(7L).title("모임").build();
+        Member host = member(1L, "host");
+        Member applicant = member(2L, "applicant");
+        List<NotificationOutbox> outboxes = List.of(
+            NotificationOutbox.participation(party, host, applicant, true),
+            NotificationOutbox.result(party, applicant, false));
+        when(notificationOutboxRepository.findByAttemptsLessThanOrderByIdAsc(eq(NotificationOutboxService.MAX_ATTEMPTS), any(Pageable.class))).thenReturn(outboxes);
+
+        List<NotificationOutboxService.Delivery> deliveries = notificationOutboxService.drain(100);
+
+        verify(noticeRepository).saveAll(argThat(notices -> {
+            List<Notice> saved = (List<Notice>)notices;
+            return saved.size() == 2 && saved.get(0).getMember() == host && saved.get(1).getMember() == applicant;
+        }));
+        verify(notificationOutboxRepository).deleteAllInBatch(outboxes);
+        assertThat(deliveries).extracting(NotificationOutboxService.Delivery::getReceiverUniqueId)
+            .containsExactly("host", "applicant");
+        assertThat(deliveries.get(0).getPayload()).isInstanceOf(NoticeParticipantResponseDto.class);
+        assertThat(((NoticeParticipantResponseDto)deliveries.get(0).getPayload()).getParticipantName()).isEqualTo("applicant");
+        assertThat(deliveries.get(1).getPayload()).isInstanceOf(NoticeResponseDto.class);
+    }
+
+    @DisplayName("전달할 알림이 없으면 아무것도 저장하지 않는다.")
+    @Test
+    void drain_empty() {
+        when(notificationOutboxRepository.findByAttemptsLessThanOrderByIdAsc(eq(NotificationOutboxService.MAX_ATTEMPTS), any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(notificationOutboxService.drain(100)).isEmpty();
+        verify(noticeRepository, never()).saveAll(any());
+    }
+
+    @DisplayName("저장에 실패한 알림은 실패 횟수가 오르고, MAX_ATTEMPTS 에 이르면 더 꺼내지 않는다.")
+    @Test
+    void recordFailure() {
+        Party party = Party.builder().partyId(7L).title("모임").build();
+        NotificationOutbox outbox = NotificationOutbox.result(party, member(2L, "applicant"), true);
+        when(notificationOutboxRepository.findByAttemptsLessThanOrderByIdAsc(eq(NotificationOutboxService.MAX_ATTEMPTS), any(Pageable.class)))
+            .thenReturn(List.of(outbox));
+
+        for (int i = 0; i < NotificationOutboxService.MAX_ATTEMPTS; i++) {
+            notificationOutboxService.recordFailure();
+        }
+
+        assertThat(outbox.getAttempts()).isEqualTo(NotificationOutboxService.MAX_ATTEMPTS);
+    }
+}
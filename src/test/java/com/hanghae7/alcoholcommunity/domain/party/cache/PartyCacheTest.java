@@ -0,0 +1,194 @@
+package com.hanghae7.alcoholcommunity.domain.party.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanghae7.alcoholcommunity.domain.common.config.CacheConfig;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponseDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyResponseDto;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+
+class PartyCacheTest {
+
+	private RedisTemplate<String, String> redisTemplate;
+	private ValueOperations<String, String> valueOperations;
+	private ObjectMapper objectMapper;
+	private PartyVersionStore partyVersionStore;
+	private PartyCache partyCache;
+	private PartyResponseDto detail;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws Exception {
+		redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		objectMapper = mock(ObjectMapper.class);
+		partyVersionStore = mock(PartyVersionStore.class);
+		partyCache = new PartyCache(new CacheConfig().cacheManager(), redisTemplate, objectMapper,
+			mock(RedisMessageListenerContainer.class), partyVersionStore);
+		detail = mock(PartyResponseDto.class);
+		when(objectMapper.writeValueAsString(detail)).thenReturn("json");
+		when(objectMapper.readValue("json", PartyResponseDto.class)).thenReturn(detail);
+		when(partyVersionStore.partyVersion(7L)).thenReturn("v1");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Supplier<PartyResponseDto> loader() {
+		Supplier<PartyResponseDto> loader = mock(Supplier.class);
+		when(loader.get()).thenReturn(detail);
+		return loader;
+	}
+
+	@DisplayName("두 캐시 모두 없으면 조회한 모임 상세를 현재 버전으로 메모리와 Redis 에 저장하고, 다음 조회는 메모리에서 찾는다.")
+	@Test
+	void getPartyDetail_load() {
+		Supplier<PartyResponseDto> loader = loader();
+
+		assertThat(partyCache.getPartyDetail(7L, loader)).isSameAs(detail);
+		assertThat(partyCache.getPartyDetail(7L, loader)).isSameAs(detail);
+
+		verify(loader, times(1)).get();
+		verify(valueOperations).set(eq("partyDetail:7:v1"), eq("json"), anyLong(), eq(TimeUnit.MILLISECONDS));
+		verify(valueOperations, times(1)).get("partyDetail:7:v1");
+	}
+
+	@DisplayName("모임 버전이 없으면 모임이 있을 때만 버전을 만들고, 없는 모임은 버전을 만들지 않는다.")
+	@Test
+	void getPartyDetail_missingVersion() {
+		when(partyVersionStore.partyVersion(7L)).thenReturn(null);
+		when(partyVersionStore.partyVersion(8L)).thenReturn(null);
+
+		assertThat(partyCache.getPartyDetail(7L, loader())).isSameAs(detail);
+		assertThat(partyCache.getPartyDetail(8L, () -> null)).isNull();
+
+		verify(partyVersionStore).createPartyVersion(7L);
+		verify(partyVersionStore, never()).createPartyVersion(8L);
+	}
+
+	@DisplayName("Redis 에서 모임 버전을 읽을 수 없으면 메모리 캐시만 쓰고, 모임이 바뀌면 다시 조회한다.")
+	@Test
+	void getPartyDetail_localVersion() {
+		when(partyVersionStore.partyVersion(7L)).thenReturn(null);
+		Supplier<PartyResponseDto> loader = loader();
+
+		partyCache.getPartyDetail(7L, loader);
+		partyCache.getPartyDetail(7L, loader);
+		verify(loader, times(1)).get();
+
+		partyCache.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.UPDATED, Party.builder().partyId(7L).build()));
+		partyCache.getPartyDetail(7L, loader);
+		verify(loader, times(2)).get();
+		verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any());
+	}
+
+	@DisplayName("메모리 캐시에 없으면 Redis 에서 찾고, DB는 조회하지 않는다.")
+	@Test
+	void getPartyDetail_redis() {
+		when(valueOperations.get("partyDetail:7:v1")).thenReturn("json");
+		Supplier<PartyResponseDto> loader = loader();
+
+		assertThat(partyCache.getPartyDetail(7L, loader)).isSameAs(detail);
+		assertThat(partyCache.getPartyDetail(7L, loader)).isSameAs(detail);
+
+		verify(loader, never()).get();
+		verify(valueOperations, times(1)).get("partyDetail:7:v1");
+	}
+
+	@DisplayName("조회하는 동안 모임 버전이 바뀌면 조회한 모임 상세를 저장하지 않는다.")
+	@Test
+	void getPartyDetail_versionChanged() throws Exception {
+		when(partyVersionStore.partyVersion(7L)).thenReturn("v1", "v2");
+
+		assertThat(partyCache.getPartyDetail(7L, loader())).isSameAs(detail);
+
+		verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+		verify(objectMapper, never()).writeValueAsString(any());
+	}
+
+	@DisplayName("메모리 캐시의 버전이 현재 버전과 다르면 쓰지 않는다.")
+	@Test
+	void getPartyDetail_staleLocal() {
+		partyCache.getPartyDetail(7L, loader());
+		when(partyVersionStore.partyVersion(7L)).thenReturn("v2");
+		Supplier<PartyResponseDto> loader = loader();
+
+		partyCache.getPartyDetail(7L, loader);
+
+		verify(valueOperations).get("partyDetail:7:v2");
+		verify(loader).get();
+	}
+
+	@DisplayName("다른 서버의 무효화 메시지를 받으면 메모리 캐시를 비운다.")
+	@Test
+	void onMessage() {
+		partyCache.getPartyDetail(7L, loader());
+		when(valueOperations.get("partyDetail:7:v1")).thenReturn("json");
+
+		partyCache.onMessage(new DefaultMessage(PartyCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"\"7\"".getBytes(StandardCharsets.UTF_8)), null);
+		partyCache.getPartyDetail(7L, loader());
+
+		verify(valueOperations, times(2)).get("partyDetail:7:v1");
+	}
+
+	@DisplayName("모임이 바뀌면 메모리 캐시를 비운 뒤 버전을 바꾸고, 이전 Redis 값을 지운 다음 다른 서버에 알린다.")
+	@Test
+	void onPartyChanged() {
+		Party party = Party.builder().partyId(7L).build();
+
+		partyCache.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.UPDATED, party));
+
+		InOrder inOrder = inOrder(partyVersionStore, redisTemplate);
+		inOrder.verify(partyVersionStore).bump(7L);
+		inOrder.verify(redisTemplate).delete("partyDetail:7:v1");
+		inOrder.verify(redisTemplate).convertAndSend(PartyCache.INVALIDATION_CHANNEL, "7");
+	}
+
+	@DisplayName("목록 버전이 바뀌면 같은 조회 조건이라도 캐시된 목록을 쓰지 않는다.")
+	@Test
+	@SuppressWarnings("unchecked")
+	void getPartyList_version() {
+		when(partyVersionStore.listVersion()).thenReturn("l1", "l2");
+		Supplier<PartyListResponseDto> loader = mock(Supplier.class);
+		when(loader.get()).thenReturn(mock(PartyListResponseDto.class));
+
+		partyCache.getPartyList("page=0", loader);
+		partyCache.getPartyList("page=0", loader);
+
+		verify(loader, times(2)).get();
+	}
+
+	@DisplayName("목록 버전을 읽을 수 없으면 메모리 캐시를 쓰고, 모임이 바뀌면 비운다.")
+	@Test
+	@SuppressWarnings("unchecked")
+	void getPartyList_localVersion() {
+		when(partyVersionStore.listVersion()).thenReturn(null);
+		Supplier<PartyListResponseDto> loader = mock(Supplier.class);
+		when(loader.get()).thenReturn(mock(PartyListResponseDto.class));
+
+		partyCache.getPartyList("page=0", loader);
+		partyCache.getPartyList("page=0", loader);
+		verify(loader, times(1)).get();
+
+		partyCache.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.UPDATED, Party.builder().partyId(7L).build()));
+		partyCache.getPartyList("page=0", loader);
+		verify(loader, times(2)).get();
+	}
+}
@@ -0,0 +1,93 @@
+package com.hanghae7.alcoholcommunity.domain.party.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class PartyVersionStoreTest {
+
+	private ValueOperations<String, String> valueOperations;
+	private PartyVersionStore partyVersionStore;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		partyVersionStore = new PartyVersionStore(redisTemplate);
+	}
+
+	@DisplayName("목록 버전이 같으면 같은 조회 조건의 ETag 도 같다.")
+	@Test
+	void listETag() {
+		when(valueOperations.get("partyListVersion")).thenReturn("3");
+
+		String eTag = partyVersionStore.listETag("recruitmentStatus=0&page=0", null);
+
+		assertThat(eTag).isEqualTo(partyVersionStore.listETag("recruitmentStatus=0&page=0", null));
+		assertThat(eTag).startsWith("\"l3-").endsWith("\"");
+		assertThat(eTag).isNotEqualTo(partyVersionStore.listETag("recruitmentStatus=0&page=1", null));
+		assertThat(eTag).isNotEqualTo(partyVersionStore.listETag("recruitmentStatus=0&page=0", "Bearer token"));
+	}
+
+	@DisplayName("모임이 바뀌면 모임 버전과 목록 버전이 함께 새 값으로 바뀐다.")
+	@Test
+	void bump() {
+		partyVersionStore.bump(7L);
+
+		verify(valueOperations).set(eq("partyVersion:7"), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+		verify(valueOperations).set(eq("partyListVersion"), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+	}
+
+	@DisplayName("모임 버전 키가 없으면 조회만으로는 키를 만들지 않고 ETag 도 만들지 않는다.")
+	@Test
+	void partyVersion_missingKey() {
+		assertThat(partyVersionStore.partyVersion(7L)).isNull();
+		assertThat(partyVersionStore.partyETag(7L, "member")).isNull();
+		verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), anyLong(), any());
+	}
+
+	@DisplayName("있는 모임의 버전 키가 사라지면 0 이 아닌 새 버전을 만료시간과 함께 만들어 이전 ETag 와 겹치지 않는다.")
+	@Test
+	void createPartyVersion_missingKey() {
+		when(valueOperations.get("partyVersion:7")).thenReturn(null, "lx3k9a");
+
+		assertThat(partyVersionStore.createPartyVersion(7L)).isEqualTo("lx3k9a");
+		verify(valueOperations).setIfAbsent(eq("partyVersion:7"), argThat(version -> !version.equals("0")),
+			longThat(ttl -> ttl > 0), eq(TimeUnit.MILLISECONDS));
+	}
+
+	@DisplayName("버전 변경에 실패하면 다시 바꿀 때까지 ETag 를 만들지 않는다.")
+	@Test
+	void partyETag_bumpFailure() {
+		when(valueOperations.get("partyVersion:7")).thenReturn("before");
+		doThrow(new RedisConnectionFailureException("down")).when(valueOperations)
+			.set(eq("partyVersion:7"), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+		partyVersionStore.bump(7L);
+
+		assertThat(partyVersionStore.partyETag(7L, "member")).isNull();
+
+		doNothing().when(valueOperations).set(eq("partyVersion:7"), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+		when(valueOperations.get("partyVersion:7")).thenReturn("after");
+
+		assertThat(partyVersionStore.partyETag(7L, "member")).startsWith("\"p7-after-");
+	}
+
+	@DisplayName("Redis 에서 버전을 읽을 수 없으면 ETag 를 만들지 않는다.")
+	@Test
+	void partyETag_redisFailure() {
+		when(valueOperations.get("partyVersion:7")).thenThrow(new RedisConnectionFailureException("down"));
+
+		assertThat(partyVersionStore.partyETag(7L, "member")).isNull();
+	}
+}
@@ -0,0 +1,28 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.Info;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParticipateStateDtoTest {
+
+	@DisplayName("거절이 대기열보다, 대기열이 승인 대기보다 먼저 참여상태로 정해진다.")
+	@Test
+	void toState() {
+		assertThat(new ParticipateStateDto(1L, true, true, 3L).toState()).isEqualTo(3);
+		assertThat(new ParticipateStateDto(1L, true, false, 3L).toState()).isEqualTo(4);
+		assertThat(new ParticipateStateDto(1L, true, false, null).toState()).isEqualTo(2);
+		assertThat(new ParticipateStateDto(1L, false, false, null).toState()).isEqualTo(1);
+	}
+
+	@DisplayName("참여자 프로필 프로젝션은 목록 응답의 참여자 정보로 바뀐다.")
+	@Test
+	void toMemberInfo() {
+		MemberInfoDto memberInfo = new PartyMemberInfoDto(1L, 10L, "회원", "profile.png").toMemberInfo();
+
+		assertThat(memberInfo.getMemberId()).isEqualTo(10L);
+		assertThat(memberInfo.getMemberName()).isEqualTo("회원");
+		assertThat(memberInfo.getProfileImage()).isEqualTo("profile.png");
+	}
+}
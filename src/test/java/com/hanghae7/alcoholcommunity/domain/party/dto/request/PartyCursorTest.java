@@ -0,0 +1,33 @@
+package com.hanghae7.alcoholcommunity.domain.party.dto.request;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PartyCursorTest {
+
+	@DisplayName("커서를 문자열로 만든 뒤 다시 해석할 수 있다.")
+	@Test
+	void encodeAndDecode() {
+		LocalDateTime createdAt = LocalDateTime.of(2023, 6, 23, 21, 30, 15, 123456000);
+		PartyCursor cursor = new PartyCursor(createdAt, 42L);
+
+		PartyCursor decoded = PartyCursor.decode(cursor.encode());
+
+		assertEquals(createdAt, decoded.getSortKey());
+		assertEquals(42L, decoded.getPartyId());
+	}
+
+	@DisplayName("잘못된 커서는 IllegalArgumentException이 발생한다.")
+	@Test
+	void decode_invalid() {
+		assertThatThrownBy(() -> PartyCursor.decode("not-a-cursor"))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> PartyCursor.decode(new PartyCursor(LocalDateTime.now(), 1L).encode().substring(3)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
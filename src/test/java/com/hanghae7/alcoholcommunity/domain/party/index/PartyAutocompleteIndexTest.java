@@ -0,0 +1,61 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyAutocompleteResponse;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+class PartyAutocompleteIndexTest {
+
+	private PartyRepository partyRepository;
+	private PartyAutocompleteIndex partyAutocompleteIndex;
+
+	private Party party(long partyId, String stationName) {
+		return Party.builder()
+			.partyId(partyId)
+			.stationName(stationName)
+			.build();
+	}
+
+	@BeforeEach
+	void setUp() {
+		partyRepository = mock(PartyRepository.class);
+		when(partyRepository.findAllByisDeletedFalse()).thenReturn(Arrays.asList(party(1L, "강남역"), party(2L, "강남역")));
+		partyAutocompleteIndex = new PartyAutocompleteIndex(partyRepository);
+		partyAutocompleteIndex.rebuild();
+	}
+
+	@DisplayName("같은 이름을 가진 모임 수와 함께 자동완성된다.")
+	@Test
+	void suggest() {
+		assertThat(partyAutocompleteIndex.suggest("강남", 10))
+			.extracting(PartyAutocompleteResponse::getKeyword, PartyAutocompleteResponse::getPartyCount)
+			.containsExactly(tuple("강남역", 2));
+	}
+
+	@DisplayName("재구성 중 DB를 읽는 동안 생성/삭제된 모임은 새 트라이에도 반영된다.")
+	@Test
+	void rebuild_changedDuringRebuild() {
+		when(partyRepository.findAllByisDeletedFalse()).thenAnswer(invocation -> {
+			partyAutocompleteIndex.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.CREATED, party(3L, "역삼역")));
+			partyAutocompleteIndex.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.DELETED, party(2L, "강남역")));
+			return Arrays.asList(party(1L, "강남역"), party(2L, "강남역"));
+		});
+
+		partyAutocompleteIndex.rebuild();
+
+		assertThat(partyAutocompleteIndex.suggest("역삼", 10)).extracting(PartyAutocompleteResponse::getKeyword)
+			.containsExactly("역삼역");
+		assertThat(partyAutocompleteIndex.suggest("강남", 10)).extracting(PartyAutocompleteResponse::getPartyCount)
+			.containsExactly(1);
+	}
+}
@@ -0,0 +1,107 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyFacetDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyFacetResponse;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+class PartyFacetIndexTest {
+
+	private PartyRepository partyRepository;
+	private PartyFacetIndex partyFacetIndex;
+
+	private Party party(long partyId, String regionName, String categoryName, boolean recruitmentStatus) {
+		return Party.builder()
+			.partyId(partyId)
+			.regionName(regionName)
+			.categoryName(categoryName)
+			.concept("조용한")
+			.recruitmentStatus(recruitmentStatus)
+			.build();
+	}
+
+	@BeforeEach
+	void setUp() {
+		partyRepository = mock(PartyRepository.class);
+		when(partyRepository.findAllFacets()).thenReturn(new ArrayList<>(Arrays.asList(
+			new PartyFacetDto(party(1L, "서울", "맥주", true)),
+			new PartyFacetDto(party(2L, "서울", "와인", true)),
+			new PartyFacetDto(party(3L, "부산", "맥주", false))
+		)));
+		partyFacetIndex = new PartyFacetIndex(partyRepository);
+		partyFacetIndex.reconcile();
+	}
+
+	@DisplayName("필터별 모임 수를 많은 순으로 반환한다.")
+	@Test
+	void facets() {
+		PartyFacetResponse facets = partyFacetIndex.facets();
+
+		assertThat(facets.getRegionName()).containsExactly(entry("서울", 2), entry("부산", 1));
+		assertThat(facets.getCategoryName()).containsExactly(entry("맥주", 2), entry("와인", 1));
+		assertThat(facets.getConcept()).containsExactly(entry("조용한", 3));
+		assertThat(facets.getRecruiting()).isEqualTo(2);
+		assertThat(facets.getClosed()).isEqualTo(1);
+	}
+
+	@DisplayName("모임이 수정되면 이전 값은 빠지고 새 값이 더해진다.")
+	@Test
+	void onPartyChanged_update() {
+		partyFacetIndex.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.UPDATED, party(2L, "부산", "와인", false)));
+
+		PartyFacetResponse facets = partyFacetIndex.facets();
+		assertThat(facets.getRegionName()).containsOnly(entry("서울", 1), entry("부산", 2));
+		assertThat(facets.getRecruiting()).isEqualTo(1);
+		assertThat(facets.getClosed()).isEqualTo(2);
+	}
+
+	@DisplayName("모임이 삭제되어 0이 된 이름은 필터 목록에서 빠진다.")
+	@Test
+	void onPartyChanged_delete() {
+		partyFacetIndex.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.DELETED, party(2L, "서울", "와인", true)));
+
+		assertThat(partyFacetIndex.facets().getCategoryName()).containsOnly(entry("맥주", 2));
+	}
+
+	@DisplayName("다시 세면 놓친 변경사항이 DB 기준으로 맞춰진다.")
+	@Test
+	void reconcile() {
+		List<PartyFacetDto> facets = Arrays.asList(new PartyFacetDto(party(1L, "서울", "맥주", true)));
+		when(partyRepository.findAllFacets()).thenReturn(facets);
+
+		partyFacetIndex.reconcile();
+
+		assertThat(partyFacetIndex.facets().getRegionName()).containsOnly(entry("서울", 1));
+		assertThat(partyFacetIndex.facets().getClosed()).isZero();
+	}
+
+	@DisplayName("다시 세는 동안 커밋된 변경은 새 카운트에 다시 반영된다.")
+	@Test
+	void reconcile_changedDuringReconcile() {
+		when(partyRepository.findAllFacets()).thenAnswer(invocation -> {
+			partyFacetIndex.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.UPDATED, party(2L, "부산", "와인", false)));
+			return Arrays.asList(
+				new PartyFacetDto(party(1L, "서울", "맥주", true)),
+				new PartyFacetDto(party(2L, "서울", "와인", true))
+			);
+		});
+
+		partyFacetIndex.reconcile();
+
+		PartyFacetResponse facets = partyFacetIndex.facets();
+		assertThat(facets.getRegionName()).containsOnly(entry("서울", 1), entry("부산", 1));
+		assertThat(facets.getClosed()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,117 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+
+class PartyKdTreeTest {
+
+	private PartyLocation location(long partyId, double latitude, double longitude, boolean recruitmentStatus) {
+		return new PartyLocation(Party.builder()
+			.partyId(partyId)
+			.latitude(latitude)
+			.longitude(longitude)
+			.recruitmentStatus(recruitmentStatus)
+			.build());
+	}
+
+	@DisplayName("가까운 순 검색 결과는 전체를 정렬한 결과와 같다.")
+	@Test
+	void nearest() {
+		// given
+		Random random = new Random(7);
+		List<PartyLocation> locations = new ArrayList<>();
+		for (long partyId = 1; partyId <= 500; partyId++) {
+			locations.add(location(partyId, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5, random.nextBoolean()));
+		}
+		PartyKdTree tree = new PartyKdTree();
+		tree.build(locations.subList(0, 250));
+		locations.subList(250, 500).forEach(tree::put);
+		for (long partyId = 1; partyId <= 300; partyId += 3) {
+			tree.remove(partyId);
+		}
+		double[] target = PartyLocation.toPoint(37.497967, 127.027616);
+
+		// when
+		List<Long> result = tree.nearest(target, 10, 4, PartyLocation::isRecruitmentStatus).stream()
+			.map(neighbor -> neighbor.getLocation().getPartyId())
+			.collect(Collectors.toList());
+
+		// then
+		List<Long> expected = locations.stream()
+			.filter(location -> location.getPartyId() > 300 || (location.getPartyId() - 1) % 3 != 0)
+			.filter(PartyLocation::isRecruitmentStatus)
+			.sorted(Comparator.comparingDouble(location -> PartyKdTree.distanceSquared(location.getPoint(), target)))
+			.limit(10)
+			.map(PartyLocation::getPartyId)
+			.collect(Collectors.toList());
+		assertThat(result).containsExactlyElementsOf(expected);
+	}
+
+	@DisplayName("반경 밖의 모임은 검색되지 않는다.")
+	@Test
+	void nearest_outOfRadius() {
+		// given
+		PartyKdTree tree = new PartyKdTree();
+		tree.put(location(1L, 37.497967, 127.027616, true));
+		tree.put(location(2L, 35.179554, 129.075642, true));
+		double[] target = PartyLocation.toPoint(37.5, 127.03);
+		double chord = 2 * Math.sin(10.0 / 6371 / 2);
+
+		// when
+		List<PartyKdTree.Neighbor> result = tree.nearest(target, 10, chord * chord, location -> true);
+
+		// then
+		assertThat(result).extracting(neighbor -> neighbor.getLocation().getPartyId()).containsExactly(1L);
+	}
+
+	@DisplayName("좌표 범위 검색 결과는 전체를 훑은 결과와 같다.")
+	@Test
+	void range() {
+		// given
+		Random random = new Random(11);
+		List<PartyLocation> locations = new ArrayList<>();
+		for (long partyId = 1; partyId <= 500; partyId++) {
+			locations.add(location(partyId, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5, true));
+		}
+		PartyKdTree tree = new PartyKdTree();
+		tree.build(locations);
+		for (long partyId = 1; partyId <= 500; partyId += 4) {
+			tree.remove(partyId);
+		}
+		double[] min = PartyLocation.toPoint(35, 126);
+		double[] max = PartyLocation.toPoint(36, 127);
+		double[] low = {Math.min(min[0], max[0]), Math.min(min[1], max[1]), Math.min(min[2], max[2])};
+		double[] high = {Math.max(min[0], max[0]), Math.max(min[1], max[1]), Math.max(min[2], max[2])};
+
+		// when
+		List<Long> result = new ArrayList<>();
+		tree.range(low, high, location -> result.add(location.getPartyId()));
+
+		// then
+		List<Long> expected = locations.stream()
+			.filter(location -> (location.getPartyId() - 1) % 4 != 0)
+			.filter(location -> {
+				double[] point = location.getPoint();
+				for (int axis = 0; axis < 3; axis++) {
+					if (point[axis] < low[axis] || point[axis] > high[axis]) {
+						return false;
+					}
+				}
+				return true;
+			})
+			.map(PartyLocation::getPartyId)
+			.collect(Collectors.toList());
+		assertThat(expected).isNotEmpty();
+		assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+	}
+}
@@ -0,0 +1,109 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyHistoryDto;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+class PartyRecommendationIndexTest {
+
+	private final LocalDateTime now = LocalDateTime.now();
+	private PartyRecommendationIndex partyRecommendationIndex;
+
+	private Party party(long partyId, double latitude, double longitude, int hoursUntil, int currentCount, String categoryName) {
+		return Party.builder()
+			.partyId(partyId)
+			.latitude(latitude)
+			.longitude(longitude)
+			.recruitmentStatus(true)
+			.partyDate(now.plusHours(hoursUntil))
+			.createdAt(now.minusHours(1))
+			.totalCount(4)
+			.currentCount(currentCount)
+			.categoryName(categoryName)
+			.build();
+	}
+
+	@BeforeEach
+	void setUp() {
+		PartyRepository partyRepository = mock(PartyRepository.class);
+		Party closed = party(5L, 37.497967, 127.027616, 2, 4, "맥주");
+		closed.setRecruitmentStatus(false);
+		when(partyRepository.findAllByisDeletedFalse()).thenReturn(Arrays.asList(
+			// 강남역, 곧 열리고 거의 다 모인 모임
+			party(1L, 37.497967, 127.027616, 2, 3, "맥주"),
+			// 강남역 근처, 일주일 뒤 모임
+			party(2L, 37.498500, 127.028000, 24 * 7, 1, "와인"),
+			party(3L, 37.499000, 127.026000, 24 * 7, 1, "소주"),
+			// 부산, 반경 밖
+			party(4L, 35.157800, 129.059000, 2, 3, "맥주"),
+			closed,
+			// 이미 지난 모임
+			party(6L, 37.497967, 127.027616, -2, 3, "맥주")
+		));
+		partyRecommendationIndex = new PartyRecommendationIndex(partyRepository);
+		partyRecommendationIndex.rebuild();
+	}
+
+	@DisplayName("반경 안의 모집중인 모임 중 점수가 높은 size 개만 점수 순으로 반환한다.")
+	@Test
+	void recommend() {
+		List<Long> partyIds = partyRecommendationIndex.recommend(37.497967, 127.027616, 5, PartyPreference.NONE, now, 2);
+
+		assertThat(partyIds).hasSize(2);
+		assertThat(partyIds.get(0)).isEqualTo(1L);
+		assertThat(partyIds).doesNotContain(4L, 5L, 6L);
+	}
+
+	@DisplayName("자주 참여한 카테고리의 모임이 먼저 추천되고, 이미 참여한 모임은 제외된다.")
+	@Test
+	void recommend_preference() {
+		PartyPreference preference = new PartyPreference(Arrays.asList(
+			new PartyHistoryDto(1L, "와인", null),
+			new PartyHistoryDto(10L, "와인", null)
+		));
+
+		List<Long> partyIds = partyRecommendationIndex.recommend(37.497967, 127.027616, 5, preference, now, 10);
+
+		assertThat(partyIds).containsExactly(2L, 3L);
+	}
+
+	@DisplayName("size 가 0이면 빈 리스트를 반환한다.")
+	@Test
+	void recommend_empty() {
+		assertThat(partyRecommendationIndex.recommend(37.497967, 127.027616, 5, new PartyPreference(Collections.emptyList()), now, 0))
+			.isEmpty();
+	}
+
+	@DisplayName("재구성 중 DB를 읽는 동안 모집이 마감된 모임은 새 후보에서도 빠진다.")
+	@Test
+	void rebuild_changedDuringRebuild() {
+		PartyRepository partyRepository = mock(PartyRepository.class);
+		PartyRecommendationIndex index = new PartyRecommendationIndex(partyRepository);
+		Party closed = party(1L, 37.497967, 127.027616, 2, 4, "맥주");
+		closed.setRecruitmentStatus(false);
+		when(partyRepository.findAllByisDeletedFalse()).thenAnswer(invocation -> {
+			index.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.PARTICIPATION, closed));
+			return Arrays.asList(
+				party(1L, 37.497967, 127.027616, 2, 3, "맥주"),
+				party(2L, 37.498500, 127.028000, 24 * 7, 1, "와인")
+			);
+		});
+
+		index.rebuild();
+
+		assertThat(index.recommend(37.497967, 127.027616, 5, PartyPreference.NONE, now, 10)).containsExactly(2L);
+	}
+}
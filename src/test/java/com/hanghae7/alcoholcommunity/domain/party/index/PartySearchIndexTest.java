@@ -0,0 +1,115 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyCursor;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+class PartySearchIndexTest {
+
+	private static final double LATITUDE = 37.497967;
+	private static final double LONGITUDE = 127.027616;
+
+	private PartyRepository partyRepository;
+	private PartySearchIndex partySearchIndex;
+
+	private Party party(long partyId, String title, String stationName, String placeName, int day) {
+		return Party.builder()
+			.partyId(partyId)
+			.title(title)
+			.stationName(stationName)
+			.placeName(placeName)
+			.placeAddress("서울 강남구 테헤란로")
+			.latitude(LATITUDE)
+			.longitude(LONGITUDE)
+			.partyDate(LocalDateTime.of(2023, 7, day, 19, 0))
+			.recruitmentStatus(true)
+			.build();
+	}
+
+	private List<Long> search(String keyword, PartyCursor after, int size) {
+		return partySearchIndex.search(keyword, LATITUDE, LONGITUDE, 5, null, after, 0, size).stream()
+			.map(PartySearchHit::getPartyId)
+			.collect(Collectors.toList());
+	}
+
+	@BeforeEach
+	void setUp() {
+		partyRepository = mock(PartyRepository.class);
+		when(partyRepository.findAllByisDeletedFalse()).thenReturn(Arrays.asList(
+			party(1L, "퇴근하고 맥주 한잔", "강남역", "비어바", 3),
+			party(2L, "강남 와인 모임", "신논현역", "와인바", 2),
+			party(3L, "소주 번개", "역삼역", "포차", 1)
+		));
+		partySearchIndex = new PartySearchIndex(partyRepository);
+		partySearchIndex.rebuild();
+	}
+
+	@DisplayName("검색어가 포함된 필드의 가중치가 높은 모임이 먼저 조회된다.")
+	@Test
+	void search_relevance() {
+		// 2번은 제목이 "강남"으로 시작, 1번은 역 이름이 "강남"으로 시작, 3개 모두 주소에 "강남" 포함
+		assertThat(search("강남", null, 10)).containsExactly(2L, 1L, 3L);
+	}
+
+	@DisplayName("띄어쓰기로 나뉜 단어가 모두 포함된 모임만 조회된다.")
+	@Test
+	void search_allWords() {
+		assertThat(search("맥주 강남역", null, 10)).containsExactly(1L);
+		assertThat(search("맥주 와인", null, 10)).isEmpty();
+		assertThat(search("술", null, 10)).isEmpty();
+	}
+
+	@DisplayName("커서 다음 결과부터 조회된다.")
+	@Test
+	void search_cursor() {
+		PartySearchHit first = partySearchIndex.search("강남", LATITUDE, LONGITUDE, 5, null, null, 0, 1).get(0);
+
+		List<Long> next = search("강남", new PartyCursor(first.getScore(), first.getPartyDate(), first.getPartyId()), 10);
+
+		assertThat(next).containsExactly(1L, 3L);
+	}
+
+	@DisplayName("수정/삭제된 모임은 이벤트로 인덱스에 반영된다.")
+	@Test
+	void onPartyChanged() {
+		partySearchIndex.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.UPDATED,
+			party(3L, "소주 번개", "역삼역", "막걸리집", 1)));
+		partySearchIndex.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.DELETED,
+			party(1L, "퇴근하고 맥주 한잔", "강남역", "비어바", 3)));
+
+		assertThat(search("막걸리", null, 10)).containsExactly(3L);
+		assertThat(search("포차", null, 10)).isEmpty();
+		assertThat(search("맥주", null, 10)).isEmpty();
+	}
+
+	@DisplayName("재구성 중 DB를 읽는 동안 커밋된 변경은 새 색인에도 반영된다.")
+	@Test
+	void rebuild_changedDuringRebuild() {
+		when(partyRepository.findAllByisDeletedFalse()).thenAnswer(invocation -> {
+			partySearchIndex.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.UPDATED,
+				party(3L, "막걸리 번개", "역삼역", "전집", 1)));
+			return Arrays.asList(
+				party(1L, "퇴근하고 맥주 한잔", "강남역", "비어바", 3),
+				party(3L, "소주 번개", "역삼역", "포차", 1)
+			);
+		});
+
+		partySearchIndex.rebuild();
+
+		assertThat(search("막걸리", null, 10)).containsExactly(3L);
+		assertThat(search("소주", null, 10)).isEmpty();
+	}
+}
@@ -0,0 +1,152 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hanghae7.alcoholcommunity.domain.common.geo.GeoBoundingBox;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyClusterResponse;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+class PartySpatialIndexTest {
+
+	private static final GeoBoundingBox KOREA = GeoBoundingBox.of(33, 39, 124, 132);
+
+	private PartyRepository partyRepository;
+	private PartySpatialIndex partySpatialIndex;
+
+	private Party party(long partyId, double latitude, double longitude, boolean recruitmentStatus) {
+		return party(partyId, latitude, longitude, recruitmentStatus, LocalDateTime.now().plusDays(1));
+	}
+
+	private Party party(long partyId, double latitude, double longitude, boolean recruitmentStatus, LocalDateTime partyDate) {
+		return Party.builder()
+			.partyId(partyId)
+			.latitude(latitude)
+			.longitude(longitude)
+			.recruitmentStatus(recruitmentStatus)
+			.partyDate(partyDate)
+			.build();
+	}
+
+	@BeforeEach
+	void setUp() {
+		partyRepository = mock(PartyRepository.class);
+		when(partyRepository.findAllByisDeletedFalse()).thenReturn(Arrays.asList(
+			// 강남역 근처
+			party(1L, 37.497967, 127.027616, true),
+			party(2L, 37.498500, 127.028000, true),
+			party(3L, 37.499000, 127.026000, false),
+			// 부산 서면
+			party(4L, 35.157800, 129.059000, true)
+		));
+		partySpatialIndex = new PartySpatialIndex(partyRepository);
+		partySpatialIndex.rebuild();
+	}
+
+	@DisplayName("확대 수준이 낮으면 가까운 모임끼리 하나의 클러스터로 묶인다.")
+	@Test
+	void cluster() {
+		List<PartyClusterResponse> clusters = partySpatialIndex.cluster(KOREA, 8, null);
+
+		assertThat(clusters).hasSize(2);
+		assertThat(clusters.get(0).getCount()).isEqualTo(3);
+		assertThat(clusters.get(0).getPartyIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+		assertThat(clusters.get(0).getLatitude()).isBetween(37.497967, 37.499000);
+		assertThat(clusters.get(1).getPartyIds()).containsExactly(4L);
+	}
+
+	@DisplayName("지도 범위 밖과 모집 상태가 다른 모임은 클러스터에 포함되지 않는다.")
+	@Test
+	void cluster_filter() {
+		GeoBoundingBox seoul = GeoBoundingBox.of(37.4, 37.7, 126.8, 127.2);
+
+		List<PartyClusterResponse> clusters = partySpatialIndex.cluster(seoul, 8, true);
+
+		assertThat(clusters).hasSize(1);
+		assertThat(clusters.get(0).getPartyIds()).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@DisplayName("모임 시간이 지난 모임은 인덱스에 넣지 않는다.")
+	@Test
+	void rebuild_expired() {
+		when(partyRepository.findAllByisDeletedFalse()).thenReturn(Arrays.asList(
+			party(1L, 37.497967, 127.027616, true),
+			party(5L, 37.498500, 127.028000, true, LocalDateTime.now().minusHours(1))
+		));
+		partySpatialIndex.rebuild();
+
+		assertThat(partySpatialIndex.findNearest(37.497967, 127.027616, 5, null, 0, 10)).containsExactly(1L);
+	}
+
+	@DisplayName("재구성 중 DB를 읽는 동안 커밋된 변경은 새 인덱스에도 반영된다.")
+	@Test
+	void rebuild_changedDuringRebuild() {
+		Party created = party(6L, 37.498000, 127.027000, true);
+		when(partyRepository.findAllByisDeletedFalse()).thenAnswer(invocation -> {
+			partySpatialIndex.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.CREATED, created));
+			partySpatialIndex.onPartyChanged(new PartyChangedEvent(PartyChangedEvent.Type.DELETED, party(2L, 37.498500, 127.028000, true)));
+			return Arrays.asList(
+				party(1L, 37.497967, 127.027616, true),
+				party(2L, 37.498500, 127.028000, true)
+			);
+		});
+
+		partySpatialIndex.rebuild();
+
+		assertThat(partySpatialIndex.findNearest(37.497967, 127.027616, 5, null, 0, 10)).containsExactlyInAnyOrder(1L, 6L);
+	}
+
+	@DisplayName("날짜변경선을 넘는 지도 범위는 양쪽 모임을 모두 묶는다.")
+	@Test
+	void cluster_antimeridian() {
+		when(partyRepository.findAllByisDeletedFalse()).thenReturn(Arrays.asList(
+			// 피지 근처, 날짜변경선 양쪽
+			party(1L, -17.0, 179.5, true),
+			party(2L, -17.0, -179.5, true),
+			party(3L, -17.0, 170.0, true)
+		));
+		partySpatialIndex.rebuild();
+
+		List<PartyClusterResponse> clusters = partySpatialIndex.cluster(GeoBoundingBox.of(-20, -10, 178, -178), 2, null);
+
+		assertThat(clusters).flatExtracting(PartyClusterResponse::getPartyIds).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@DisplayName("지도 범위를 감싸는 3차원 좌표 범위는 범위 안의 모든 위치를 포함한다.")
+	@Test
+	void pointBounds() {
+		GeoBoundingBox[] boxes = {KOREA, GeoBoundingBox.of(-10, 10, -100, 100), GeoBoundingBox.of(60, 90, -180, 180),
+			GeoBoundingBox.of(-45, -30, 170, 180)};
+		for (GeoBoundingBox box : boxes) {
+			double[][] bounds = PartySpatialIndex.pointBounds(box);
+			for (int i = 0; i <= 10; i++) {
+				for (int j = 0; j <= 10; j++) {
+					double latitude = box.getMinLatitude() + (box.getMaxLatitude() - box.getMinLatitude()) * i / 10;
+					double longitude = box.getMinLongitude() + (box.getMaxLongitude() - box.getMinLongitude()) * j / 10;
+					double[] point = PartyLocation.toPoint(latitude, longitude);
+					for (int axis = 0; axis < 3; axis++) {
+						assertThat(point[axis]).isBetween(bounds[0][axis], bounds[1][axis]);
+					}
+				}
+			}
+		}
+	}
+
+	@DisplayName("확대 수준에 맞게 GeoHash 길이가 정해진다.")
+	@Test
+	void precisionForZoom() {
+		assertThat(PartySpatialIndex.precisionForZoom(0)).isEqualTo(1);
+		assertThat(PartySpatialIndex.precisionForZoom(10)).isEqualTo(5);
+		assertThat(PartySpatialIndex.precisionForZoom(21)).isEqualTo(7);
+	}
+}
@@ -0,0 +1,55 @@
+package com.hanghae7.alcoholcommunity.domain.party.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PartyTermTrieTest {
+
+	private List<String> suggest(PartyTermTrie trie, String prefix, int limit) {
+		return trie.suggest(prefix, limit).stream()
+			.map(suggestion -> suggestion.getKeyword() + ":" + suggestion.getPartyCount())
+			.collect(Collectors.toList());
+	}
+
+	@DisplayName("접두어로 시작하는 단어를 모임 수가 많은 순으로 조회한다.")
+	@Test
+	void suggest() {
+		PartyTermTrie trie = new PartyTermTrie();
+		trie.add("강남역", "강남역");
+		trie.add("강남역", "강남역");
+		trie.add("강남구", "강남구");
+		trie.add("강동역", "강동역");
+		trie.add("강동역", "강동역");
+		trie.add("강동역", "강동역");
+		trie.add("역삼역", "역삼역");
+
+		assertThat(suggest(trie, "강", 10)).containsExactly("강동역:3", "강남역:2", "강남구:1");
+		assertThat(suggest(trie, "강남", 1)).containsExactly("강남역:2");
+		assertThat(suggest(trie, "강남역", 10)).containsExactly("강남역:2");
+		assertThat(suggest(trie, "강서", 10)).isEmpty();
+		assertEquals(4, trie.size());
+	}
+
+	@DisplayName("모임 수가 0이 된 단어는 조회되지 않고, 남은 단어는 그대로 조회된다.")
+	@Test
+	void remove() {
+		PartyTermTrie trie = new PartyTermTrie();
+		trie.add("강남", "강남");
+		trie.add("강남역", "강남역");
+		trie.add("강남구", "강남구");
+
+		trie.remove("강남");
+		trie.remove("강남구");
+		trie.remove("강서");
+
+		assertThat(suggest(trie, "강", 10)).containsExactly("강남역:1");
+		assertThat(suggest(trie, "강남역", 10)).containsExactly("강남역:1");
+		assertEquals(1, trie.size());
+	}
+}
@@ -0,0 +1,204 @@
+package com.hanghae7.alcoholcommunity.domain.party.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hanghae7.alcoholcommunity.domain.chat.entity.ChatRoom;
+import com.hanghae7.alcoholcommunity.domain.chat.repository.ChatRoomRepository;
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.member.repository.MemberRepository;
+import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyJoinRequestDto;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.entity.PartyParticipate;
+import com.hanghae7.alcoholcommunity.domain.party.service.PartyParticipateService;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class PartyRepositoryTest {
+
+	private static final int THREADS = 32;
+	private static final int ACCEPTS = 200;
+	private static final int APPLICANTS = 20;
+
+	@Autowired
+	private PartyRepository partyRepository;
+	@Autowired
+	private PartyParticipateRepository partyParticipateRepository;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+	@Autowired
+	private PartyParticipateService partyParticipateService;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final List<Long> partyIds = new ArrayList<>();
+
+	private Party saveParty(int totalCount) {
+		Party party = partyRepository.save(Party.builder()
+			.title("동시 승인 테스트")
+			.content("동시 승인 테스트")
+			.totalCount(totalCount)
+			.currentCount(1)
+			.recruitmentStatus(true)
+			.partyDate(LocalDateTime.now().plusDays(1))
+			.build());
+		partyIds.add(party.getPartyId());
+		return party;
+	}
+
+	private Member saveMember() {
+		String uniqueId = UUID.randomUUID().toString();
+		Member member = new Member();
+		member.setMemberEmailId(uniqueId + "@test.com");
+		member.setMemberUniqueId(uniqueId);
+		member.setGender("male");
+		member.setMemberName("회원");
+		return memberRepository.save(member);
+	}
+
+	@AfterEach
+	void tearDown() {
+		partyRepository.deleteAllById(partyIds);
+	}
+
+	@DisplayName("여러 스레드가 동시에 자리를 확보해도 정원을 넘지 않고, 정원이 차면 모집 마감된다.")
+	@Test
+	void reserveSeat_concurrent() throws Exception {
+		Long partyId = saveParty(5).getPartyId();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < ACCEPTS; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return transactionTemplate.execute(status -> {
+						if (partyRepository.reserveSeat(partyId) == 0) {
+							return false;
+						}
+						partyRepository.closeIfFull(partyId);
+						return true;
+					});
+				}));
+			}
+			start.countDown();
+			int reserved = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get(30, TimeUnit.SECONDS)) {
+					reserved++;
+				}
+			}
+
+			Party party = partyRepository.findById(partyId).get();
+			assertThat(reserved).isEqualTo(4);
+			assertThat(party.getCurrentCount()).isEqualTo(5);
+			assertThat(party.isRecruitmentStatus()).isFalse();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@DisplayName("자리를 돌려주면 인원이 줄고 다시 모집중이 된다.")
+	@Test
+	void releaseSeat() {
+		Long partyId = saveParty(2).getPartyId();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			partyRepository.reserveSeat(partyId);
+			partyRepository.closeIfFull(partyId);
+		});
+
+		transactionTemplate.executeWithoutResult(status -> partyRepository.releaseSeat(partyId));
+
+		Party party = partyRepository.findById(partyId).get();
+		assertThat(party.getCurrentCount()).isEqualTo(1);
+		assertThat(party.isRecruitmentStatus()).isTrue();
+	}
+
+	@DisplayName("승인과 탈퇴가 동시에 일어나도 정원을 넘지 않고, 자리가 남으면 대기열이 비어 있다.")
+	@Test
+	void acceptAndLeave_concurrent() throws Exception {
+		Member host = saveMember();
+		Party party = partyRepository.save(Party.builder()
+			.title("동시 승인 탈퇴 테스트")
+			.content("동시 승인 탈퇴 테스트")
+			.hostUniqueId(host.getMemberUniqueId())
+			.totalCount(5)
+			.currentCount(5)
+			.recruitmentStatus(false)
+			.partyDate(LocalDateTime.now().plusDays(1))
+			.build());
+		partyIds.add(party.getPartyId());
+		ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.create(party.getTitle()));
+		partyParticipateRepository.save(new PartyParticipate(party, host, true, false, chatRoom));
+		List<Callable<Object>> tasks = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			Member leaver = saveMember();
+			partyParticipateRepository.save(new PartyParticipate(party, leaver, false, false, chatRoom));
+			tasks.add(() -> partyParticipateService.participateParty(party.getPartyId(), new PartyJoinRequestDto(), leaver));
+		}
+		for (int i = 0; i < APPLICANTS; i++) {
+			Long participateId = partyParticipateRepository.save(new PartyParticipate(party, saveMember(), false, true, null)).getId();
+			tasks.add(() -> partyParticipateService.acceptParty(participateId));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Object>> results = new ArrayList<>();
+		try {
+			for (Callable<Object> task : tasks) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+			start.countDown();
+			for (Future<Object> result : results) {
+				try {
+					result.get(30, TimeUnit.SECONDS);
+				} catch (ExecutionException e) {
+					// 교착 상태로 되돌려진 트랜잭션은 아무것도 바꾸지 않았으므로 결과만 확인한다.
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		Party result = partyRepository.findById(party.getPartyId()).get();
+		List<PartyParticipate> participates = partyParticipateRepository.findAll().stream()
+			.filter(participate -> participate.getParty().getPartyId().equals(party.getPartyId()))
+			.filter(participate -> !participate.isDeleted() && !participate.isRejected())
+			.collect(Collectors.toList());
+		long accepted = participates.stream().filter(participate -> !participate.isAwaiting() && !participate.isWaitlisted()).count();
+		long waitlisted = participates.stream().filter(PartyParticipate::isWaitlisted).count();
+		assertThat(result.getCurrentCount()).isLessThanOrEqualTo(result.getTotalCount());
+		assertThat(result.getCurrentCount()).isEqualTo(accepted);
+		if (result.getCurrentCount() < result.getTotalCount()) {
+			assertThat(waitlisted).isZero();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.entity.PartyCard;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyCardRepository;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+class PartyCardUpdaterTest {
+
+	private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2023, 6, 30, 20, 0);
+
+	private PartyCardRepository partyCardRepository;
+	private PartyRepository partyRepository;
+	private PartyParticipantLoader partyParticipantLoader;
+	private PartyCardUpdater partyCardUpdater;
+
+	private Party party(long partyId, int currentCount) {
+		return Party.builder()
+			.partyId(partyId)
+			.title("모임" + partyId)
+			.totalCount(4)
+			.currentCount(currentCount)
+			.recruitmentStatus(true)
+			.modifiedAt(MODIFIED_AT)
+			.build();
+	}
+
+	private PartyCard card(Party party) {
+		PartyCard card = new PartyCard(party.getPartyId());
+		card.refresh(party, "[]");
+		return card;
+	}
+
+	@BeforeEach
+	void setUp() {
+		partyCardRepository = mock(PartyCardRepository.class);
+		partyRepository = mock(PartyRepository.class);
+		partyParticipantLoader = mock(PartyParticipantLoader.class);
+		when(partyParticipantLoader.loadAcceptedMembers(any())).thenReturn(Collections.emptyMap());
+		partyCardUpdater = new PartyCardUpdater(partyCardRepository, partyRepository, partyParticipantLoader, new ObjectMapper());
+	}
+
+	@DisplayName("인원수가 카드와 다른 모임의 카드만 다시 만들고, 삭제된 모임의 카드는 삭제 표시한다.")
+	@Test
+	void reconcileCards() {
+		PartyCard unchanged = card(party(1L, 2));
+		PartyCard stale = card(party(2L, 2));
+		PartyCard removed = card(party(3L, 1));
+		when(partyCardRepository.findAll()).thenReturn(List.of(unchanged, stale, removed));
+		when(partyRepository.findAllByisDeletedFalse()).thenReturn(List.of(party(1L, 2), party(2L, 3)));
+		when(partyCardRepository.findById(2L)).thenReturn(Optional.of(stale));
+
+		partyCardUpdater.reconcileCards();
+
+		assertThat(stale.getCurrentCount()).isEqualTo(3);
+		assertThat(removed.isDeleted()).isTrue();
+		assertThat(unchanged.isDeleted()).isFalse();
+		verify(partyCardRepository, never()).findById(1L);
+		verify(partyParticipantLoader).loadAcceptedMembers(List.of(2L));
+	}
+}
@@ -0,0 +1,71 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponse;
+
+class PartyListEnricherTest {
+
+	private PartyViewerStateResolver partyViewerStateResolver;
+	private PartyListEnricher partyListEnricher;
+
+	private PartyCardDto card(long partyId, double latitude, double longitude) {
+		return new PartyCardDto(partyId, "모임" + partyId, LocalDateTime.of(2023, 7, 1, 19, 0), true, 4, 1,
+			latitude, longitude, 0, "강남역", null, "비어바", "서울 강남구", null, "서울", "맥주", LocalDateTime.now(), null,
+			Math.toRadians(latitude), Math.toRadians(longitude), Math.cos(Math.toRadians(latitude)));
+	}
+
+	@BeforeEach
+	void setUp() {
+		partyViewerStateResolver = mock(PartyViewerStateResolver.class);
+		PartyCardUpdater partyCardUpdater = mock(PartyCardUpdater.class);
+		when(partyCardUpdater.readMembers(any())).thenReturn(Collections.emptyList());
+		partyListEnricher = new PartyListEnricher(partyViewerStateResolver, partyCardUpdater);
+	}
+
+	@DisplayName("참여상태를 붙인 반경 안의 모임을 조회 순서대로 반환한다.")
+	@Test
+	void enrich() {
+		Member member = mock(Member.class);
+		when(partyViewerStateResolver.resolveStates(eq(member), anyCollection())).thenReturn(Map.of(3L, 1));
+		List<PartyCardDto> parties = Arrays.asList(
+			card(3L, 37.498500, 127.028000),
+			// 부산, 반경 밖
+			card(2L, 35.157800, 129.059000),
+			card(1L, 37.497967, 127.027616)
+		);
+
+		List<PartyListResponse> partyList = partyListEnricher.enrich(parties, member, 5, 127.027616, 37.497967);
+
+		assertThat(partyList.stream().map(PartyListResponse::getPartyId).collect(Collectors.toList())).containsExactly(3L, 1L);
+		assertThat(partyList.get(0).getState()).isEqualTo(1);
+		assertThat(partyList.get(1).getState()).isEqualTo(0);
+		// 반경 밖의 모임은 참여상태를 조회하지 않는다.
+		verify(partyViewerStateResolver).resolveStates(member, Arrays.asList(3L, 1L));
+	}
+
+	@DisplayName("비로그인 조회는 참여상태를 조회하지 않는다.")
+	@Test
+	void enrich_anonymous() {
+		List<PartyListResponse> partyList = partyListEnricher.enrich(
+			Collections.singletonList(card(1L, 37.497967, 127.027616)), null, 5, 127.027616, 37.497967);
+
+		assertThat(partyList).hasSize(1);
+		verifyNoInteractions(partyViewerStateResolver);
+	}
+}
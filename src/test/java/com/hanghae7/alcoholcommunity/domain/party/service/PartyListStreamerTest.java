@@ -0,0 +1,74 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyCardRepository;
+
+class PartyListStreamerTest {
+
+	private PartyCardRepository partyCardRepository;
+	private PartyViewerStateResolver partyViewerStateResolver;
+	private ObjectMapper objectMapper;
+	private PartyListStreamer partyListStreamer;
+
+	private PartyCardDto card(long partyId, double latitude, double longitude) {
+		return new PartyCardDto(partyId, "모임" + partyId, LocalDateTime.of(2023, 7, 1, 19, 0), true, 4, 1,
+			latitude, longitude, 0, "강남역", null, "비어바", "서울 강남구", null, "서울", "맥주", LocalDateTime.now(), null,
+			Math.toRadians(latitude), Math.toRadians(longitude), Math.cos(Math.toRadians(latitude)));
+	}
+
+	@BeforeEach
+	void setUp() {
+		partyCardRepository = mock(PartyCardRepository.class);
+		partyViewerStateResolver = mock(PartyViewerStateResolver.class);
+		PartyCardUpdater partyCardUpdater = mock(PartyCardUpdater.class);
+		when(partyCardUpdater.readMembers(any())).thenReturn(Collections.emptyList());
+		objectMapper = new ObjectMapper().findAndRegisterModules();
+		partyListStreamer = new PartyListStreamer(partyCardRepository, partyViewerStateResolver, partyCardUpdater,
+			objectMapper, mock(PlatformTransactionManager.class));
+	}
+
+	@DisplayName("커서에서 읽은 카드를 묶음 단위로 참여상태를 붙여 쓰고, 반경 밖의 모임은 빼고 개수를 센다.")
+	@Test
+	void stream() throws Exception {
+		List<PartyCardDto> cards = new ArrayList<>();
+		// 부산, 반경 밖
+		cards.add(card(0L, 35.157800, 129.059000));
+		for (long partyId = 1; partyId <= 150; partyId++) {
+			cards.add(card(partyId, 37.497967, 127.027616));
+		}
+		when(partyCardRepository.streamWithinRadius(37.497967, 127.027616, 5, null, 1000)).thenReturn(cards.stream());
+		Member viewer = mock(Member.class);
+		when(partyViewerStateResolver.resolveStates(eq(viewer), anyCollection())).thenReturn(Map.of(1L, 1));
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		partyListStreamer.stream(viewer, 5, 127.027616, 37.497967, null, 1000).writeTo(outputStream);
+
+		JsonNode body = objectMapper.readTree(outputStream.toByteArray());
+		assertThat(body.get("status").asInt()).isEqualTo(200);
+		assertThat(body.get("data").get("totalElements").asInt()).isEqualTo(150);
+		assertThat(body.get("data").get("partyList")).hasSize(150);
+		assertThat(body.get("data").get("partyList").get(0).get("partyId").asLong()).isEqualTo(1L);
+		assertThat(body.get("data").get("partyList").get(0).get("state").asInt()).isEqualTo(1);
+		// 100개, 51개 두 묶음으로 참여상태를 조회한다.
+		verify(partyViewerStateResolver, times(2)).resolveStates(eq(viewer), anyCollection());
+	}
+}
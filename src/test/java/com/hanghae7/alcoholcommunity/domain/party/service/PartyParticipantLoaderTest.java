@@ -0,0 +1,55 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.MemberInfoDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyMemberInfoDto;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyParticipateRepository;
+
+class PartyParticipantLoaderTest {
+
+	private PartyParticipateRepository partyParticipateRepository;
+	private PartyParticipantLoader partyParticipantLoader;
+
+	@BeforeEach
+	void setUp() {
+		partyParticipateRepository = mock(PartyParticipateRepository.class);
+		partyParticipantLoader = new PartyParticipantLoader(partyParticipateRepository);
+	}
+
+	@DisplayName("페이지의 참여자를 한번에 조회해서 모임별로 호스트부터 순서대로 묶는다.")
+	@Test
+	void loadAcceptedMembers() {
+		when(partyParticipateRepository.findAcceptedMemberInfosByPartyIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+			new PartyMemberInfoDto(1L, 10L, "호스트1", null),
+			new PartyMemberInfoDto(2L, 20L, "호스트2", null),
+			new PartyMemberInfoDto(1L, 11L, "참여자", null)
+		));
+
+		Map<Long, List<MemberInfoDto>> members = partyParticipantLoader.loadAcceptedMembers(List.of(1L, 2L, 3L));
+
+		assertThat(members.get(1L).stream().map(MemberInfoDto::getMemberId).collect(Collectors.toList())).containsExactly(10L, 11L);
+		assertThat(members.get(2L)).extracting(MemberInfoDto::getMemberName).containsExactly("호스트2");
+		assertThat(members).doesNotContainKey(3L);
+		verify(partyParticipateRepository, times(1)).findAcceptedMemberInfosByPartyIds(anyCollection());
+	}
+
+	@DisplayName("빈 페이지는 참여자를 조회하지 않는다.")
+	@Test
+	void loadAcceptedMembers_empty() {
+		assertThat(partyParticipantLoader.loadAcceptedMembers(Collections.emptyList())).isEmpty();
+
+		verifyNoInteractions(partyParticipateRepository);
+	}
+}
@@ -0,0 +1,321 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+
+import com.hanghae7.alcoholcommunity.domain.chat.entity.ChatRoom;
+import com.hanghae7.alcoholcommunity.domain.chat.repository.ChatMessageRepository;
+import com.hanghae7.alcoholcommunity.domain.common.ResponseDto;
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.member.repository.MemberRepository;
+import com.hanghae7.alcoholcommunity.domain.notification.service.NotificationOutboxService;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.MemberInfoDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.ParticipateCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyJoinRequestDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyBulkAcceptResponseDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponse;
+import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.entity.PartyParticipate;
+import com.hanghae7.alcoholcommunity.domain.party.event.PartyChangedEvent;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyParticipateRepository;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
+
+class PartyParticipateServiceTest {
+
+	private PartyParticipateRepository partyParticipateRepository;
+	private PartyRepository partyRepository;
+	private NotificationOutboxService notificationOutboxService;
+	private ChatMessageRepository chatMessageRepository;
+	private MemberRepository memberRepository;
+	private ApplicationEventPublisher eventPublisher;
+	private PartyParticipantLoader partyParticipantLoader;
+	private PartyParticipateService partyParticipateService;
+	private Party party;
+
+	private PartyParticipate participate(long id, Member member) {
+		PartyParticipate participate = mock(PartyParticipate.class);
+		when(participate.getId()).thenReturn(id);
+		when(participate.getParty()).thenReturn(party);
+		when(participate.getMember()).thenReturn(member);
+		return participate;
+	}
+
+	private Member member(String memberUniqueId) {
+		Member member = mock(Member.class);
+		when(member.getAuthority()).thenReturn("USER");
+		when(member.getMemberUniqueId()).thenReturn(memberUniqueId);
+		when(member.getMemberNotice()).thenReturn(new ArrayList<>());
+		return member;
+	}
+
+	@BeforeEach
+	void setUp() {
+		partyParticipateRepository = mock(PartyParticipateRepository.class);
+		partyRepository = mock(PartyRepository.class);
+		notificationOutboxService = mock(NotificationOutboxService.class);
+		chatMessageRepository = mock(ChatMessageRepository.class);
+		memberRepository = mock(MemberRepository.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		partyParticipantLoader = mock(PartyParticipantLoader.class);
+		partyParticipateService = new PartyParticipateService(partyParticipateRepository, partyRepository,
+			chatMessageRepository, memberRepository, notificationOutboxService,
+			eventPublisher, partyParticipantLoader);
+		party = mock(Party.class);
+		when(party.getPartyId()).thenReturn(1L);
+		when(party.getTitle()).thenReturn("모임");
+		when(partyRepository.findById(1L)).thenReturn(Optional.of(party));
+
+		PartyParticipate host = mock(PartyParticipate.class);
+		ChatRoom chatRoom = mock(ChatRoom.class);
+		when(chatRoom.getChatRoomUniqueId()).thenReturn("room");
+		when(host.getChatRoom()).thenReturn(chatRoom);
+		when(partyParticipateRepository.findByisDeletedFalseAndHostTrueAndParty(party)).thenReturn(host);
+	}
+
+	@DisplayName("정원이 찬 모임의 신청을 승인하면 대기열 맨 뒤에 등록된다.")
+	@Test
+	void acceptParty_waitlist() {
+		PartyParticipate applicant = participate(10L, member("applicant"));
+		when(partyParticipateRepository.findById(10L)).thenReturn(Optional.of(applicant));
+		when(partyParticipateRepository.acceptAwaiting(10L)).thenReturn(1);
+		when(partyRepository.reserveSeat(1L)).thenReturn(0);
+		when(partyParticipateRepository.findMaxWaitlistPosition(1L)).thenReturn(3L);
+
+		ResponseEntity<ResponseDto> response = partyParticipateService.acceptParty(10L);
+
+		assertThat(response.getBody().getMsg()).isEqualTo("모임이 꽉 차서 대기열에 등록하였습니다.");
+		verify(partyParticipateRepository).waitlist(10L, 4L);
+		verify(partyRepository, never()).closeIfFull(any());
+	}
+
+	@DisplayName("참여자가 탈퇴하면 대기열 첫번째 신청이 자동 승인되고 알림이 등록된다.")
+	@Test
+	void participateParty_promote() {
+		Member leaver = member("leaver");
+		PartyParticipate accepted = participate(30L, leaver);
+		when(partyParticipateRepository.findByisDeletedFalseAndPartyAndMember(party, leaver)).thenReturn(Optional.of(accepted));
+		Member waitingMember = member("waiting");
+		PartyParticipate waiting = participate(20L, waitingMember);
+		when(waiting.getWaitlistPosition()).thenReturn(1L);
+		when(partyParticipateRepository
+			.findFirstByisDeletedFalseAndRejectedFalseAndWaitlistPositionNotNullAndPartyPartyIdOrderByWaitlistPositionAscIdAsc(1L))
+			.thenReturn(Optional.of(waiting));
+		when(partyParticipateRepository.findById(20L)).thenReturn(Optional.of(waiting));
+		when(partyParticipateRepository.promoteWaitlisted(20L)).thenReturn(1);
+		when(partyRepository.reserveSeat(1L)).thenReturn(1);
+
+		ResponseEntity<ResponseDto> response = partyParticipateService.participateParty(1L, new PartyJoinRequestDto(), leaver);
+
+		assertThat(response.getBody().getMsg()).isEqualTo("모임에서 탈퇴하였습니다.");
+		verify(partyRepository).releaseSeat(1L);
+		verify(partyRepository).closeIfFull(1L);
+		verify(chatMessageRepository).save(any());
+		verify(notificationOutboxService).notifyResult(party, waitingMember, true);
+	}
+
+	@DisplayName("모집중인 모임의 대기중인 신청을 취소하면 변경 이벤트를 발행한다.")
+	@Test
+	void participateParty_cancelAwaiting() {
+		Member applicant = member("applicant");
+		Member host = member("host");
+		PartyParticipate awaiting = participate(40L, applicant);
+		when(awaiting.isAwaiting()).thenReturn(true);
+		when(party.isRecruitmentStatus()).thenReturn(true);
+		when(party.getHostUniqueId()).thenReturn("host");
+		when(memberRepository.findByMemberUniqueId("host")).thenReturn(Optional.of(host));
+		when(partyParticipateRepository.findByisDeletedFalseAndPartyAndMember(party, applicant)).thenReturn(Optional.of(awaiting));
+
+		ResponseEntity<ResponseDto> response = partyParticipateService.participateParty(1L, new PartyJoinRequestDto(), applicant);
+
+		assertThat(response.getBody().getMsg()).isEqualTo("모임 신청이 성공적으로 취소되었습니다.");
+		verify(partyParticipateRepository).softDeletePartyParticipate(40L);
+		verify(eventPublisher).publishEvent(argThat((PartyChangedEvent event) ->
+			event.getType() == PartyChangedEvent.Type.PARTICIPATION));
+		verify(partyRepository, never()).releaseSeat(any());
+	}
+
+	@DisplayName("대기열에서 빼는 사이 자리가 다시 차면 같은 순번으로 되돌린다.")
+	@Test
+	void participateParty_promote_seatTaken() {
+		Member leaver = member("leaver");
+		PartyParticipate accepted = participate(30L, leaver);
+		when(partyParticipateRepository.findByisDeletedFalseAndPartyAndMember(party, leaver)).thenReturn(Optional.of(accepted));
+		PartyParticipate waiting = participate(20L, member("waiting"));
+		when(waiting.getWaitlistPosition()).thenReturn(1L);
+		when(partyParticipateRepository
+			.findFirstByisDeletedFalseAndRejectedFalseAndWaitlistPositionNotNullAndPartyPartyIdOrderByWaitlistPositionAscIdAsc(1L))
+			.thenReturn(Optional.of(waiting));
+		when(partyParticipateRepository.promoteWaitlisted(20L)).thenReturn(1);
+		when(partyRepository.reserveSeat(1L)).thenReturn(0);
+
+		partyParticipateService.participateParty(1L, new PartyJoinRequestDto(), leaver);
+
+		verify(partyParticipateRepository).waitlist(20L, 1L);
+		verify(notificationOutboxService, never()).notifyResult(any(), any(), anyBoolean());
+	}
+
+	@DisplayName("정원이 늘어난 모임은 대기열이 빌 때까지 순번대로 자동 승인하고 모집을 다시 연다.")
+	@Test
+	void fillOpenSeats() {
+		Member firstMember = member("first");
+		PartyParticipate first = participate(20L, firstMember);
+		when(first.getWaitlistPosition()).thenReturn(1L);
+		Member secondMember = member("second");
+		PartyParticipate second = participate(21L, secondMember);
+		when(second.getWaitlistPosition()).thenReturn(2L);
+		when(partyParticipateRepository
+			.findFirstByisDeletedFalseAndRejectedFalseAndWaitlistPositionNotNullAndPartyPartyIdOrderByWaitlistPositionAscIdAsc(1L))
+			.thenReturn(Optional.of(first), Optional.of(second), Optional.empty());
+		when(partyParticipateRepository.findById(20L)).thenReturn(Optional.of(first));
+		when(partyParticipateRepository.findById(21L)).thenReturn(Optional.of(second));
+		when(partyParticipateRepository.promoteWaitlisted(anyLong())).thenReturn(1);
+		when(partyRepository.reserveSeat(1L)).thenReturn(1);
+
+		partyParticipateService.fillOpenSeats(1L);
+
+		verify(notificationOutboxService).notifyResult(party, firstMember, true);
+		verify(notificationOutboxService).notifyResult(party, secondMember, true);
+		verify(partyRepository).openIfNotFull(1L);
+	}
+
+	@DisplayName("일괄 승인하면 남은 자리만큼 요청 순서대로 승인하고 나머지는 대기열에 등록한다.")
+	@Test
+	void acceptPartyBulk() {
+		when(party.getHostUniqueId()).thenReturn("host");
+		when(party.getTotalCount()).thenReturn(4);
+		when(party.getCurrentCount()).thenReturn(2);
+		PartyParticipate first = participate(11L, member("first"));
+		PartyParticipate second = participate(12L, member("second"));
+		PartyParticipate third = participate(13L, member("third"));
+		for (PartyParticipate applicant : List.of(first, second, third)) {
+			when(applicant.isAwaiting()).thenReturn(true);
+		}
+		when(partyParticipateRepository.findAllById(List.of(13L, 11L, 12L, 11L))).thenReturn(List.of(first, second, third));
+		when(partyParticipateRepository.findAllById(List.of(13L, 11L))).thenReturn(List.of(first, third));
+		when(partyParticipateRepository.acceptAwaitingIn(1L, List.of(13L, 11L, 12L))).thenReturn(3);
+		when(partyRepository.reserveSeats(1L, 2)).thenReturn(1);
+		when(partyParticipateRepository.findMaxWaitlistPosition(1L)).thenReturn(5L);
+
+		ResponseEntity<ResponseDto> response = partyParticipateService.acceptPartyBulk(1L, List.of(13L, 11L, 12L, 11L), member("host"));
+
+		PartyBulkAcceptResponseDto result = (PartyBulkAcceptResponseDto)response.getBody().getData();
+		assertThat(result.getAccepted()).containsExactly(13L, 11L);
+		assertThat(result.getWaitlisted()).containsExactly(12L);
+		verify(partyParticipateRepository).waitlist(12L, 6L);
+		verify(partyRepository).closeIfFull(1L);
+		verify(chatMessageRepository).saveAll(argThat(messages -> ((List<?>)messages).size() == 2));
+		verify(notificationOutboxService).notifyResults(eq(party), argThat(receivers -> receivers.size() == 2), eq(true));
+		verify(chatMessageRepository, never()).save(any());
+	}
+
+	@DisplayName("일괄 승인 중 탈퇴로 자리가 늘었으면 대기열에 넣은 신청을 순번대로 승인한다.")
+	@Test
+	void acceptPartyBulk_seatFreed() {
+		when(party.getHostUniqueId()).thenReturn("host");
+		when(party.getTotalCount()).thenReturn(4);
+		when(party.getCurrentCount()).thenReturn(3);
+		Member secondMember = member("second");
+		PartyParticipate first = participate(11L, member("first"));
+		PartyParticipate second = participate(12L, secondMember);
+		for (PartyParticipate applicant : List.of(first, second)) {
+			when(applicant.isAwaiting()).thenReturn(true);
+		}
+		when(second.getWaitlistPosition()).thenReturn(6L);
+		when(partyParticipateRepository.findAllById(List.of(11L, 12L))).thenReturn(List.of(first, second));
+		when(partyParticipateRepository.findAllById(List.of(11L))).thenReturn(List.of(first));
+		when(partyParticipateRepository.acceptAwaitingIn(1L, List.of(11L, 12L))).thenReturn(2);
+		when(partyRepository.reserveSeats(1L, 1)).thenReturn(1);
+		when(partyParticipateRepository.findMaxWaitlistPosition(1L)).thenReturn(5L);
+		when(partyParticipateRepository
+			.findFirstByisDeletedFalseAndRejectedFalseAndWaitlistPositionNotNullAndPartyPartyIdOrderByWaitlistPositionAscIdAsc(1L))
+			.thenReturn(Optional.of(second), Optional.empty());
+		when(partyParticipateRepository.promoteWaitlisted(12L)).thenReturn(1);
+		when(partyRepository.reserveSeat(1L)).thenReturn(1);
+		PartyParticipate promoted = participate(12L, secondMember);
+		when(partyParticipateRepository.findById(12L)).thenReturn(Optional.of(promoted));
+		when(partyParticipateRepository.findAllById(List.of(12L))).thenReturn(List.of(promoted));
+
+		ResponseEntity<ResponseDto> response = partyParticipateService.acceptPartyBulk(1L, List.of(11L, 12L), member("host"));
+
+		PartyBulkAcceptResponseDto result = (PartyBulkAcceptResponseDto)response.getBody().getData();
+		assertThat(result.getAccepted()).containsExactly(11L, 12L);
+		assertThat(result.getWaitlisted()).isEmpty();
+		verify(partyParticipateRepository).waitlist(12L, 6L);
+		verify(notificationOutboxService).notifyResult(party, secondMember, true);
+		verify(partyRepository).openIfNotFull(1L);
+	}
+
+	@DisplayName("호스트가 아니면 일괄 거절할 수 없다.")
+	@Test
+	void rejectPartyBulk_notHost() {
+		when(party.getHostUniqueId()).thenReturn("host");
+
+		ResponseEntity<ResponseDto> response = partyParticipateService.rejectPartyBulk(1L, List.of(11L), member("other"));
+
+		assertThat(response.getBody().getMsg()).isEqualTo("모임의 호스트만 처리할 수 있습니다.");
+		verify(partyParticipateRepository, never()).rejectAwaitingIn(any(), any());
+	}
+
+	@DisplayName("내 모임 목록은 참여상태와 승인된 참여자 전원을 채우고, 페이지 크기는 최대값으로 제한한다.")
+	@Test
+	@SuppressWarnings("unchecked")
+	void getParticipatePartyList() {
+		Member member = member("member");
+		ParticipateCardDto waitlisted = new ParticipateCardDto(1L, "모임", LocalDateTime.now(), false, 4, 4, null, null, 0,
+			null, null, null, null, null, null, null, LocalDateTime.now(), "[]", null, null, null, true, false, 2L);
+		when(partyParticipateRepository.findParticipateCardsByMember(member, PageRequest.of(0, PartyParticipateService.MAX_PAGE_SIZE)))
+			.thenReturn(List.of(waitlisted));
+		List<MemberInfoDto> members = new ArrayList<>();
+		for (long memberId = 1; memberId <= 8; memberId++) {
+			MemberInfoDto memberInfo = new MemberInfoDto();
+			memberInfo.setMemberId(memberId);
+			members.add(memberInfo);
+		}
+		when(partyParticipantLoader.loadAcceptedMembers(List.of(1L))).thenReturn(Map.of(1L, members));
+
+		ResponseEntity<ResponseDto> response = partyParticipateService.getParticipatePartyList(member, 0, 1000);
+
+		List<PartyListResponse> parties = (List<PartyListResponse>)response.getBody().getData();
+		assertThat(parties).hasSize(1);
+		assertThat(parties.get(0).getState()).isEqualTo(4);
+		assertThat(parties.get(0).getMemberInfo()).hasSize(8);
+	}
+
+	@DisplayName("호스트 모임 목록은 참여자가 카드 프로필 수보다 많아도 전원을 돌려준다.")
+	@Test
+	@SuppressWarnings("unchecked")
+	void getHostPartyList() {
+		Member host = member("host");
+		PartyCardDto card = new PartyCardDto(1L, "모임", LocalDateTime.now(), true, 10, 7, null, null, 0,
+			null, null, null, null, null, null, null, LocalDateTime.now(), null, null, null, null);
+		when(partyParticipateRepository.findHostCardsByMember(host, PageRequest.of(0, 20))).thenReturn(List.of(card));
+		List<MemberInfoDto> members = new ArrayList<>();
+		for (long memberId = 1; memberId <= 7; memberId++) {
+			MemberInfoDto memberInfo = new MemberInfoDto();
+			memberInfo.setMemberId(memberId);
+			members.add(memberInfo);
+		}
+		when(partyParticipantLoader.loadAcceptedMembers(List.of(1L))).thenReturn(Map.of(1L, members));
+
+		ResponseEntity<ResponseDto> response = partyParticipateService.getHostPartyList(host, 0, 20);
+
+		List<PartyListResponse> parties = (List<PartyListResponse>)response.getBody().getData();
+		assertThat(parties.get(0).getMemberInfo()).hasSize(7);
+		assertThat(parties.get(0).getState()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,88 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hanghae7.alcoholcommunity.domain.common.jwt.JwtUtil;
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.member.repository.MemberRepository;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.PartyCardDto;
+import com.hanghae7.alcoholcommunity.domain.party.dto.response.PartyListResponse;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartySearchIndex;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyCardRepository;
+
+import reactor.core.scheduler.Schedulers;
+
+class PartyReactiveServiceTest {
+
+	private PartyCardRepository partyCardRepository;
+	private PartyViewerStateResolver partyViewerStateResolver;
+	private MemberRepository memberRepository;
+	private JwtUtil jwtUtil;
+	private PartyReactiveService partyReactiveService;
+
+	private PartyCardDto card(long partyId, double latitude, double longitude) {
+		return new PartyCardDto(partyId, "모임" + partyId, LocalDateTime.of(2023, 7, 1, 19, 0), true, 4, 1,
+			latitude, longitude, 0, "강남역", null, "비어바", "서울 강남구", null, "서울", "맥주", LocalDateTime.now(), null,
+			Math.toRadians(latitude), Math.toRadians(longitude), Math.cos(Math.toRadians(latitude)));
+	}
+
+	@BeforeEach
+	void setUp() {
+		partyCardRepository = mock(PartyCardRepository.class);
+		partyViewerStateResolver = mock(PartyViewerStateResolver.class);
+		memberRepository = mock(MemberRepository.class);
+		jwtUtil = mock(JwtUtil.class);
+		PartyCardUpdater partyCardUpdater = mock(PartyCardUpdater.class);
+		when(partyCardUpdater.readMembers(any())).thenReturn(Collections.emptyList());
+		partyReactiveService = new PartyReactiveService(partyCardRepository, partyViewerStateResolver, partyCardUpdater,
+			mock(PartySearchIndex.class), memberRepository, jwtUtil, Schedulers.immediate());
+	}
+
+	@DisplayName("비로그인 조회는 반경 안의 모임만 조회 순서대로 반환한다.")
+	@Test
+	void findAll() {
+		when(partyCardRepository.findAllWithinRadius(anyDouble(), anyDouble(), anyDouble(), any(), any())).thenReturn(Arrays.asList(
+			card(1L, 37.497967, 127.027616),
+			// 부산, 반경 밖
+			card(2L, 35.157800, 129.059000),
+			card(3L, 37.498500, 127.028000)
+		));
+
+		List<PartyListResponse> parties = partyReactiveService.findAll(null, 5, 127.027616, 37.497967, 0, 0).collectList().block();
+
+		assertThat(parties.stream().map(PartyListResponse::getPartyId).collect(Collectors.toList())).containsExactly(1L, 3L);
+		assertThat(parties).allMatch(party -> party.getState() == 0);
+		verifyNoInteractions(partyViewerStateResolver);
+	}
+
+	@DisplayName("로그인 조회는 조회자의 참여상태를 함께 반환한다.")
+	@Test
+	void findAll_viewer() {
+		Member member = mock(Member.class);
+		when(member.getAuthority()).thenReturn("USER");
+		when(jwtUtil.getMemberInfoFromToken("token")).thenReturn("unique");
+		when(memberRepository.findByMemberUniqueId("unique")).thenReturn(Optional.of(member));
+		when(partyCardRepository.findAllWithinRadius(anyDouble(), anyDouble(), anyDouble(), any(), any()))
+			.thenReturn(Collections.singletonList(card(1L, 37.497967, 127.027616)));
+		when(partyViewerStateResolver.resolveStates(eq(member), anyCollection())).thenReturn(Map.of(1L, 2));
+
+		List<PartyListResponse> parties = partyReactiveService.findAll("Bearer token", 5, 127.027616, 37.497967, 0, 0).collectList().block();
+
+		assertThat(parties).hasSize(1);
+		assertThat(parties.get(0).getState()).isEqualTo(2);
+	}
+}
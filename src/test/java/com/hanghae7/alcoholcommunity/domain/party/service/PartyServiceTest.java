@@ -5,8 +5,16 @@ import com.hanghae7.alcoholcommunity.domain.chat.repository.ChatRoomRepository;
 import com.hanghae7.alcoholcommunity.domain.common.entity.S3Service;
 import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
 import com.hanghae7.alcoholcommunity.domain.member.repository.MemberRepository;
+import com.hanghae7.alcoholcommunity.domain.party.cache.PartyCache;
 import com.hanghae7.alcoholcommunity.domain.party.dto.request.PartyRequestDto;
 import com.hanghae7.alcoholcommunity.domain.party.entity.Party;
+import com.hanghae7.alcoholcommunity.domain.party.entity.PartyParticipate;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartyAutocompleteIndex;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartyFacetIndex;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartyRecommendationIndex;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartySearchIndex;
+import com.hanghae7.alcoholcommunity.domain.party.index.PartySpatialIndex;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyCardRepository;
 import com.hanghae7.alcoholcommunity.domain.party.repository.PartyParticipateRepository;
 import com.hanghae7.alcoholcommunity.domain.party.repository.PartyRepository;
 import com.hanghae7.alcoholcommunity.domain.common.ResponseDto;
@@ -18,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -26,6 +35,8 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 // import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.assertj.core.api.Assertions.*;
@@ -47,6 +58,30 @@ class PartyServiceTest {
 	private ChatMessageRepository chatMessageRepository;
 	@Mock
 	private PartyParticipateRepository partyParticipateRepository;
+	@Mock
+	private PartyParticipateService partyParticipateService;
+	@Mock
+	private PartyCardRepository partyCardRepository;
+	@Mock
+	private PartyViewerStateResolver partyViewerStateResolver;
+	@Mock
+	private PartySpatialIndex partySpatialIndex;
+	@Mock
+	private PartySearchIndex partySearchIndex;
+	@Mock
+	private PartyAutocompleteIndex partyAutocompleteIndex;
+	@Mock
+	private PartyRecommendationIndex partyRecommendationIndex;
+	@Mock
+	private PartyFacetIndex partyFacetIndex;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private PartyCache partyCache;
+	@Mock
+	private PartyListStreamer partyListStreamer;
+	@Mock
+	private PartyListEnricher partyListEnricher;
 
 	@InjectMocks
 	private PartyService partyService;
@@ -119,6 +154,46 @@ class PartyServiceTest {
 		assertEquals("모임 조회에 성공했습니다.", response.getBody().getMsg());
 	}
 
+	@DisplayName("모임 정원을 늘리면 늘어난 자리만큼 대기열 신청을 자동 승인한다.")
+	@Test
+	void updateParty_increaseTotalCount() throws IOException {
+		Member host = Mockito.mock(Member.class);
+		when(host.getAuthority()).thenReturn("USER");
+		when(host.getMemberUniqueId()).thenReturn("host");
+		Party party = Party.builder().partyId(1L).totalCount(4).build();
+		when(partyRepository.findById(1L)).thenReturn(Optional.of(party));
+		PartyParticipate hostParticipate = Mockito.mock(PartyParticipate.class);
+		when(hostParticipate.getMember()).thenReturn(host);
+		when(partyParticipateRepository.findMemberByisDeletedFalseAndHostTrueAndPartyPartyId(1L)).thenReturn(Optional.of(hostParticipate));
+
+		ResponseEntity<ResponseDto> response = partyService.updateParty(1L, partyRequestDto(6), host, null);
+
+		assertEquals("모임을 수정하였습니다.", response.getBody().getMsg());
+		verify(partyParticipateService).fillOpenSeats(1L);
+	}
+
+	@DisplayName("모임 정원이 늘지 않으면 대기열을 건드리지 않는다.")
+	@Test
+	void updateParty_sameTotalCount() throws IOException {
+		Member host = Mockito.mock(Member.class);
+		when(host.getAuthority()).thenReturn("USER");
+		when(host.getMemberUniqueId()).thenReturn("host");
+		Party party = Party.builder().partyId(1L).totalCount(4).build();
+		when(partyRepository.findById(1L)).thenReturn(Optional.of(party));
+		PartyParticipate hostParticipate = Mockito.mock(PartyParticipate.class);
+		when(hostParticipate.getMember()).thenReturn(host);
+		when(partyParticipateRepository.findMemberByisDeletedFalseAndHostTrueAndPartyPartyId(1L)).thenReturn(Optional.of(hostParticipate));
+
+		partyService.updateParty(1L, partyRequestDto(4), host, null);
+
+		verify(partyParticipateService, never()).fillOpenSeats(any());
+	}
+
+	private PartyRequestDto partyRequestDto(int totalCount) {
+		return new PartyRequestDto("모임", "내용", LocalDateTime.now().plusDays(1), "컨셉", 37.5, 127.0, totalCount,
+			"장소", "주소", "url", 0, "역", "지역", "카테고리");
+	}
+
 	// private PartyRequestDto createPartyRequestDto(String title, String content, LocalDateTime partyDate, String concept, Double latitude, Double longitude, int totalCount, String placeName, String placeAddress, String placeUrl, double distance, String stationName, String regionName, String categoryName) {
 	// 	return PartyRequestDto.builder()
 	// 		.title(title)
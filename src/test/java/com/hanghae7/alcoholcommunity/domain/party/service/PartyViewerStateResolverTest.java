@@ -0,0 +1,55 @@
+package com.hanghae7.alcoholcommunity.domain.party.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hanghae7.alcoholcommunity.domain.member.entity.Member;
+import com.hanghae7.alcoholcommunity.domain.party.dto.Info.ParticipateStateDto;
+import com.hanghae7.alcoholcommunity.domain.party.repository.PartyParticipateRepository;
+
+class PartyViewerStateResolverTest {
+
+	private PartyParticipateRepository partyParticipateRepository;
+	private PartyViewerStateResolver partyViewerStateResolver;
+	private Member viewer;
+
+	@BeforeEach
+	void setUp() {
+		partyParticipateRepository = mock(PartyParticipateRepository.class);
+		partyViewerStateResolver = new PartyViewerStateResolver(partyParticipateRepository);
+		viewer = mock(Member.class);
+	}
+
+	@DisplayName("페이지의 모임별 참여상태를 한번에 조회하고, 참여정보가 없는 모임은 빠진다.")
+	@Test
+	void resolveStates() {
+		List<Long> partyIds = List.of(1L, 2L, 3L, 4L, 5L);
+		when(partyParticipateRepository.findViewerStatesByPartyIds(viewer, partyIds)).thenReturn(List.of(
+			new ParticipateStateDto(1L, false, false, null),
+			new ParticipateStateDto(2L, true, false, null),
+			new ParticipateStateDto(3L, false, true, null),
+			new ParticipateStateDto(4L, false, false, 2L)
+		));
+
+		Map<Long, Integer> states = partyViewerStateResolver.resolveStates(viewer, partyIds);
+
+		assertThat(states).containsOnly(entry(1L, 1), entry(2L, 2), entry(3L, 3), entry(4L, 4));
+		verify(partyParticipateRepository, times(1)).findViewerStatesByPartyIds(viewer, partyIds);
+	}
+
+	@DisplayName("빈 페이지는 참여상태를 조회하지 않는다.")
+	@Test
+	void resolveStates_empty() {
+		assertThat(partyViewerStateResolver.resolveStates(viewer, Collections.emptyList())).isEmpty();
+
+		verifyNoInteractions(partyParticipateRepository);
+	}
+}